@@ -0,0 +1,46 @@
+package com.snowypeaksystems.mobactions.data;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for building commands from CommandData.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandDataBenchmark {
+  @Param({"spawn", "give {player} diamond 1", "tp {player} 0 64 0 \\{escaped\\} {player}"})
+  private String command;
+  private CommandData data;
+
+  @Setup
+  public void setUp() {
+    data = new CommandData(command);
+  }
+
+  /** Decoding a mob compiles its command, so this is paid on every mob cache miss. */
+  @Benchmark
+  public CommandData construct() {
+    return new CommandData(command);
+  }
+
+  @Benchmark
+  public String getCommand() {
+    return data.getCommand("Notch");
+  }
+}
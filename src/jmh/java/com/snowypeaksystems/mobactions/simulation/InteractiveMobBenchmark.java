@@ -0,0 +1,116 @@
+package com.snowypeaksystems.mobactions.simulation;
+
+import com.snowypeaksystems.mobactions.IInteractiveMob;
+import com.snowypeaksystems.mobactions.MobActions;
+import com.snowypeaksystems.mobactions.data.CommandData;
+import com.snowypeaksystems.mobactions.data.EventData;
+import com.snowypeaksystems.mobactions.data.IncompleteDataException;
+import com.snowypeaksystems.mobactions.data.MobData;
+import com.snowypeaksystems.mobactions.data.WarpData;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for reading an interactive mob's data from its persistent data container.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InteractiveMobBenchmark {
+  @Param({"warp", "command", "event"})
+  private String type;
+  private Path folder;
+  private MobActions plugin;
+  private LivingEntity entity;
+
+  /** Enables the plugin on a simulated server and stores data of the given type on a mob. */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, ReflectiveOperationException,
+      IncompleteDataException {
+    folder = Files.createTempDirectory("mobactions-mobs");
+    File dataFolder = folder.toFile();
+
+    World world = new SimulatedWorld("world", new UUID(0, 1));
+    SimulatedServer server = new SimulatedServer(world, new SimulatedScheduler());
+    if (Bukkit.getServer() == null) {
+      Bukkit.setServer(server.getServer());
+    }
+
+    PluginDescriptionFile description = new PluginDescriptionFile(
+        "MobActions", "benchmark", MobActions.class.getName());
+    plugin = new MobActions(new JavaPluginLoader(server.getServer()), description, dataFolder,
+        new File(dataFolder, "MobActions.jar")) {};
+    server.registerCommand("mac", plugin);
+    plugin.onEnable();
+
+    MobData data;
+    switch (type) {
+      case "warp":
+        data = new WarpData("spawn");
+        break;
+      case "command":
+        data = new CommandData("say Hello, {player}!", "Greets the player");
+        break;
+      default:
+        data = new EventData("event");
+        break;
+    }
+
+    entity = SimulatedEntities.createMob(new UUID(1, 0), new Location(world, 0, 64, 0));
+    IInteractiveMob mob = plugin.getInteractiveMob(entity);
+    mob.setData(data);
+    mob.store();
+  }
+
+  /** Disables the plugin and deletes the folder created by setUp. */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    plugin.onDisable();
+
+    try (Stream<Path> paths = Files.walk(folder)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  /** Decoding the mob's data, which is what happens the first time a mob is clicked. */
+  @Benchmark
+  public IInteractiveMob decode() throws IncompleteDataException {
+    plugin.getInteractiveMobCache().invalidate(entity);
+    return plugin.getInteractiveMob(entity);
+  }
+
+  /** Looking up a mob that was already decoded, for comparison with decode. */
+  @Benchmark
+  public IInteractiveMob cached() throws IncompleteDataException {
+    return plugin.getInteractiveMob(entity);
+  }
+}
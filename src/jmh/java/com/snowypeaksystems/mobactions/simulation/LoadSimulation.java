@@ -0,0 +1,404 @@
+package com.snowypeaksystems.mobactions.simulation;
+
+import com.snowypeaksystems.mobactions.IInteractiveMob;
+import com.snowypeaksystems.mobactions.MobActions;
+import com.snowypeaksystems.mobactions.data.CommandData;
+import com.snowypeaksystems.mobactions.data.EventData;
+import com.snowypeaksystems.mobactions.data.IncompleteDataException;
+import com.snowypeaksystems.mobactions.data.MobData;
+import com.snowypeaksystems.mobactions.data.WarpData;
+import com.snowypeaksystems.mobactions.listener.ICommandListener;
+import com.snowypeaksystems.mobactions.listener.IEventListener;
+import com.snowypeaksystems.mobactions.mobevent.IMobEvent;
+import com.snowypeaksystems.mobactions.mobevent.IMobEventManager;
+import com.snowypeaksystems.mobactions.player.PlayerException;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+/**
+ * Drives the real listeners and managers of an enabled MobActions with simulated players and
+ * mobs, then reports throughput, allocation and per-event latency.
+ * Options are passed as name=value arguments, see Options for the names and defaults.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class LoadSimulation {
+  private static final String[] KINDS = {"interact", "damage", "tab-complete", "command"};
+  private static final int INTERACT = 0;
+  private static final int DAMAGE = 1;
+  private static final int TAB_COMPLETE = 2;
+  private static final int COMMAND = 3;
+
+  private final Options options;
+  private final Random random;
+  private final List<SimulatedPlayer> players = new ArrayList<>();
+  private final List<LivingEntity> mobs = new ArrayList<>();
+  private SimulatedScheduler scheduler;
+  private MobActions plugin;
+  private PluginCommand command;
+  private IEventListener eventListener;
+  private ICommandListener commandListener;
+
+  private LoadSimulation(Options options) {
+    this.options = options;
+    this.random = new Random(options.seed);
+  }
+
+  /** Runs the simulation with the options in args and writes the results. */
+  public static void main(String[] args) throws Exception {
+    Options options = Options.parse(args);
+    Path dataFolder = Files.createTempDirectory("mobactions-simulation");
+
+    try {
+      LoadSimulation simulation = new LoadSimulation(options);
+      simulation.enable(dataFolder.toFile());
+      simulation.populate();
+      String results = simulation.run();
+
+      System.out.println(results);
+      if (options.output != null) {
+        File parent = options.output.getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+          throw new IOException("Could not create " + parent);
+        }
+
+        Files.write(options.output.toPath(), results.getBytes(StandardCharsets.UTF_8));
+      }
+
+      simulation.plugin.onDisable();
+    } finally {
+      try (Stream<Path> paths = Files.walk(dataFolder)) {
+        paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+      }
+    }
+  }
+
+  private void enable(File dataFolder) throws ReflectiveOperationException {
+    World world = new SimulatedWorld("world", new UUID(0, 1));
+    scheduler = new SimulatedScheduler();
+    SimulatedServer server = new SimulatedServer(world, scheduler);
+    Bukkit.setServer(server.getServer());
+
+    PluginDescriptionFile description = new PluginDescriptionFile(
+        "MobActions", "simulation", MobActions.class.getName());
+    plugin = new MobActions(new JavaPluginLoader(server.getServer()), description, dataFolder,
+        new File(dataFolder, "MobActions.jar")) {};
+    command = server.registerCommand("mac", plugin);
+    plugin.onEnable();
+
+    if (plugin.getWarpManager() == null || plugin.getMobEventManager() == null) {
+      throw new IllegalStateException("MobActions could not be enabled");
+    }
+
+    eventListener = server.getListener(IEventListener.class);
+    commandListener = (ICommandListener) command.getExecutor();
+  }
+
+  /** Creates the warps, events, mobs and players, using the plugin's own managers. */
+  private void populate() throws IOException, IncompleteDataException {
+    World world = Bukkit.getWorld("world");
+
+    for (int i = 0; i < options.warps; i++) {
+      plugin.getWarpManager().makeWarp("warp" + i, randomLocation(world));
+    }
+
+    IMobEventManager events = plugin.getMobEventManager();
+    for (int i = 0; i < options.events; i++) {
+      events.createEvent("event" + i, new WarpData(randomWarp()), 30, options.eventSize);
+    }
+
+    for (int i = 0; i < options.mobs; i++) {
+      LivingEntity entity = SimulatedEntities.createMob(new UUID(1, i), randomLocation(world));
+      mobs.add(entity);
+
+      // Some entities are ordinary mobs that players fight with
+      MobData data;
+      switch (i % 4) {
+        case 0:
+          data = new WarpData(randomWarp());
+          break;
+        case 1:
+          data = new CommandData("say Hello, {player}!", "Greets the player");
+          break;
+        case 2:
+          data = options.events > 0 ? new EventData("event" + random.nextInt(options.events))
+              : null;
+          break;
+        default:
+          data = null;
+          break;
+      }
+
+      if (data != null) {
+        IInteractiveMob mob = plugin.getInteractiveMob(entity);
+        mob.setData(data);
+        mob.store();
+      }
+    }
+
+    for (int i = 0; i < options.players; i++) {
+      players.add(new SimulatedPlayer("player" + i, new UUID(2, i), randomLocation(world)));
+    }
+  }
+
+  /** Runs the warmup and measured ticks, returning the results as JSON. */
+  private String run() throws PlayerException {
+    int measuredEvents = options.ticks * options.eventsPerTick;
+    long[] latencies = new long[measuredEvents];
+    byte[] kinds = new byte[measuredEvents];
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    for (int tick = 0; tick < options.warmupTicks; tick++) {
+      runTick(null, null, 0);
+    }
+
+    long allocatedBefore = getAllocatedBytes(threads);
+    long start = System.nanoTime();
+
+    for (int tick = 0; tick < options.ticks; tick++) {
+      runTick(latencies, kinds, tick * options.eventsPerTick);
+    }
+
+    long elapsed = System.nanoTime() - start;
+    long allocated = getAllocatedBytes(threads) - allocatedBefore;
+
+    return toJson(latencies, kinds, elapsed, allocatedBefore < 0 ? -1 : allocated);
+  }
+
+  private void runTick(long[] latencies, byte[] kinds, int offset) throws PlayerException {
+    // Keep events cycling, like an admin reopening them after they start
+    for (IMobEvent event : plugin.getMobEventManager().getLoadedEvents()) {
+      if (event.getState() == IMobEvent.State.CLOSED) {
+        event.open();
+      }
+    }
+
+    for (int i = 0; i < options.eventsPerTick; i++) {
+      SimulatedPlayer player = players.get(random.nextInt(players.size()));
+      int roll = random.nextInt(100);
+      int kind = roll < 60 ? INTERACT : roll < 85 ? DAMAGE : roll < 95 ? TAB_COMPLETE : COMMAND;
+
+      long start = System.nanoTime();
+      dispatch(kind, player);
+      long latency = System.nanoTime() - start;
+
+      if (latencies != null) {
+        latencies[offset + i] = latency;
+        kinds[offset + i] = (byte) kind;
+      }
+    }
+
+    scheduler.tick();
+  }
+
+  private void dispatch(int kind, SimulatedPlayer player) {
+    switch (kind) {
+      case INTERACT:
+        eventListener.onMobInteract(
+            new PlayerInteractEntityEvent(player, randomMob(), EquipmentSlot.HAND));
+        break;
+      case DAMAGE:
+        eventListener.onMobDamage(new EntityDamageByEntityEvent(player, randomMob(),
+            EntityDamageEvent.DamageCause.ENTITY_ATTACK, 1));
+        break;
+      case TAB_COMPLETE:
+        commandListener.onTabComplete(player, command, "mac",
+            new String[] {"warp", "warp" + random.nextInt(10)});
+        break;
+      default:
+        commandListener.onCommand(player, command, "mac", new String[] {"warp", randomWarp()});
+        break;
+    }
+  }
+
+  private String toJson(long[] latencies, byte[] kinds, long elapsedNanos, long allocated) {
+    double seconds = elapsedNanos / 1e9;
+    Map<String, Object> fields = new LinkedHashMap<>();
+
+    fields.put("players", options.players);
+    fields.put("mobs", options.mobs);
+    fields.put("warps", options.warps);
+    fields.put("events", options.events);
+    fields.put("ticks", options.ticks);
+    fields.put("events-per-tick", options.eventsPerTick);
+    fields.put("seed", options.seed);
+    fields.put("elapsed-ms", elapsedNanos / 1_000_000);
+    fields.put("events-per-second", format(latencies.length / seconds));
+    fields.put("allocated-bytes-per-event",
+        allocated < 0 ? "-1" : format((double) allocated / latencies.length));
+    fields.put("allocation-mb-per-second",
+        allocated < 0 ? "-1" : format(allocated / seconds / (1024 * 1024)));
+    fields.put("teleports", players.stream().mapToInt(SimulatedPlayer::getTeleports).sum());
+    fields.put("commands", players.stream().mapToInt(SimulatedPlayer::getCommands).sum());
+    fields.put("latency-us", toJson(latencies));
+
+    StringBuilder kindJson = new StringBuilder("{");
+    for (int kind = 0; kind < KINDS.length; kind++) {
+      int count = 0;
+      for (byte k : kinds) {
+        if (k == kind) {
+          count++;
+        }
+      }
+
+      long[] kindLatencies = new long[count];
+      int index = 0;
+      for (int i = 0; i < kinds.length; i++) {
+        if (kinds[i] == kind) {
+          kindLatencies[index++] = latencies[i];
+        }
+      }
+
+      kindJson.append(kind == 0 ? "" : ", ").append('"').append(KINDS[kind]).append("\": ")
+          .append(toJson(kindLatencies));
+    }
+    fields.put("latency-us-by-event", kindJson.append('}').toString());
+
+    StringBuilder json = new StringBuilder("{");
+    for (Map.Entry<String, Object> field : fields.entrySet()) {
+      json.append(json.length() > 1 ? ",\n" : "\n").append("  \"").append(field.getKey())
+          .append("\": ").append(field.getValue());
+    }
+
+    return json.append("\n}").toString();
+  }
+
+  private static String toJson(long[] latencies) {
+    if (latencies.length == 0) {
+      return "{\"count\": 0}";
+    }
+
+    long[] sorted = latencies.clone();
+    Arrays.sort(sorted);
+    return String.format(Locale.ROOT,
+        "{\"count\": %d, \"p50\": %s, \"p99\": %s, \"p999\": %s, \"max\": %s}", sorted.length,
+        format(getPercentile(sorted, 0.5) / 1e3), format(getPercentile(sorted, 0.99) / 1e3),
+        format(getPercentile(sorted, 0.999) / 1e3), format(sorted[sorted.length - 1] / 1e3));
+  }
+
+  private static long getPercentile(long[] sorted, double fraction) {
+    int index = (int) Math.ceil(fraction * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ROOT, "%.2f", value);
+  }
+
+  /** Returns the bytes allocated by this thread so far, or -1 if the JVM cannot tell. */
+  private static long getAllocatedBytes(ThreadMXBean threads) {
+    if (threads instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+      if (sunThreads.isThreadAllocatedMemorySupported()
+          && sunThreads.isThreadAllocatedMemoryEnabled()) {
+        return sunThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+
+    return -1;
+  }
+
+  private Location randomLocation(World world) {
+    return new Location(world, random.nextInt(2000) - 1000, 64, random.nextInt(2000) - 1000);
+  }
+
+  private String randomWarp() {
+    return "warp" + random.nextInt(options.warps);
+  }
+
+  private LivingEntity randomMob() {
+    return mobs.get(random.nextInt(mobs.size()));
+  }
+
+  /** The size of the simulation, parsed from name=value arguments. */
+  private static final class Options {
+    private int players = 2000;
+    private int mobs = 5000;
+    private int warps = 100;
+    private int events = 20;
+    private int eventSize = 8;
+    private int warmupTicks = 200;
+    private int ticks = 1200;
+    private int eventsPerTick = 500;
+    private long seed = 1;
+    private File output;
+
+    private static Options parse(String[] args) {
+      Options options = new Options();
+
+      for (String arg : args) {
+        int split = arg.indexOf('=');
+        if (split < 0) {
+          throw new IllegalArgumentException("Expected name=value but got " + arg);
+        }
+
+        String value = arg.substring(split + 1);
+        switch (arg.substring(0, split)) {
+          case "players":
+            options.players = Integer.parseInt(value);
+            break;
+          case "mobs":
+            options.mobs = Integer.parseInt(value);
+            break;
+          case "warps":
+            options.warps = Integer.parseInt(value);
+            break;
+          case "events":
+            options.events = Integer.parseInt(value);
+            break;
+          case "event-size":
+            options.eventSize = Integer.parseInt(value);
+            break;
+          case "warmup-ticks":
+            options.warmupTicks = Integer.parseInt(value);
+            break;
+          case "ticks":
+            options.ticks = Integer.parseInt(value);
+            break;
+          case "events-per-tick":
+            options.eventsPerTick = Integer.parseInt(value);
+            break;
+          case "seed":
+            options.seed = Long.parseLong(value);
+            break;
+          case "output":
+            options.output = new File(value);
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option " + arg);
+        }
+      }
+
+      if (options.players < 1 || options.mobs < 1 || options.warps < 1) {
+        throw new IllegalArgumentException("players, mobs and warps must be at least 1");
+      }
+
+      return options;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.snowypeaksystems.mobactions.simulation;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates stand-ins for the large server interfaces, of which the plugin only uses a few methods.
+ * Calling any method the handler does not implement fails, so the simulation cannot silently
+ * skip work the plugin starts doing later.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+final class Proxies {
+  private Proxies() {}
+
+  /** Returns a proxy of type that passes every non-Object method to handler. */
+  static <T> T create(Class<T> type, InvocationHandler handler) {
+    Object proxy = Proxy.newProxyInstance(Proxies.class.getClassLoader(), new Class<?>[] {type},
+        (self, method, args) -> {
+          if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+              case "equals":
+                return self == args[0];
+              case "hashCode":
+                return System.identityHashCode(self);
+              default:
+                return "Simulated" + type.getSimpleName();
+            }
+          }
+
+          return handler.invoke(self, method, args);
+        });
+
+    return type.cast(proxy);
+  }
+
+  /** Returns the exception to throw for a method the simulation does not support. */
+  static UnsupportedOperationException unsupported(Class<?> type, String method) {
+    return new UnsupportedOperationException(
+        type.getSimpleName() + "." + method + " is not simulated");
+  }
+}
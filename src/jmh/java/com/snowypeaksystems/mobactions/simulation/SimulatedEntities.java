@@ -0,0 +1,100 @@
+package com.snowypeaksystems.mobactions.simulation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.persistence.PersistentDataContainer;
+
+/**
+ * Creates mobs that keep their persistent data in memory.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+final class SimulatedEntities {
+  private SimulatedEntities() {}
+
+  /** Returns a new villager at the provided location. */
+  static LivingEntity createMob(UUID uid, Location location) {
+    PersistentDataContainer container = createContainer();
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("RemoveWhenFarAway", true);
+    properties.put("CustomNameVisible", false);
+
+    return Proxies.create(LivingEntity.class, (self, method, args) -> {
+      String name = method.getName();
+      switch (name) {
+        case "getUniqueId":
+          return uid;
+        case "getType":
+          return EntityType.VILLAGER;
+        case "getLocation":
+          return location.clone();
+        case "getWorld":
+          return location.getWorld();
+        case "getPersistentDataContainer":
+          return container;
+        case "isValid":
+          return true;
+        case "isDead":
+          return false;
+        default:
+          break;
+      }
+
+      // Properties like the custom name are kept, so they can be read back
+      if (name.startsWith("set") && args != null && args.length == 1) {
+        properties.put(name.substring(3), args[0]);
+        return null;
+      }
+
+      String property = getPropertyName(name);
+      if (property != null && properties.containsKey(property)) {
+        return properties.get(property);
+      }
+
+      throw Proxies.unsupported(LivingEntity.class, name);
+    });
+  }
+
+  private static PersistentDataContainer createContainer() {
+    Map<NamespacedKey, Object> values = new HashMap<>();
+
+    // Values are stored as their complex type, so types are never converted
+    return Proxies.create(PersistentDataContainer.class, (self, method, args) -> {
+      switch (method.getName()) {
+        case "set":
+          values.put((NamespacedKey) args[0], args[2]);
+          return null;
+        case "get":
+          return values.get(args[0]);
+        case "getOrDefault":
+          return values.getOrDefault(args[0], args[2]);
+        case "has":
+          return values.containsKey(args[0]);
+        case "remove":
+          values.remove(args[0]);
+          return null;
+        case "isEmpty":
+          return values.isEmpty();
+        case "getKeys":
+          return Set.copyOf(values.keySet());
+        default:
+          throw Proxies.unsupported(PersistentDataContainer.class, method.getName());
+      }
+    });
+  }
+
+  private static String getPropertyName(String getter) {
+    if (getter.startsWith("get")) {
+      return getter.substring(3);
+    } else if (getter.startsWith("is")) {
+      return getter.substring(2);
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,75 @@
+package com.snowypeaksystems.mobactions.simulation;
+
+import com.snowypeaksystems.mobactions.mock.FakePlayer;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * A FakePlayer with an identity, a location and the permissions of an ordinary player.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class SimulatedPlayer extends FakePlayer {
+  private final String name;
+  private final UUID uid;
+  private Location location;
+  private int commands;
+  private int teleports;
+
+  SimulatedPlayer(String name, UUID uid, Location location) {
+    this.name = name;
+    this.uid = uid;
+    this.location = location;
+    setPermission("mobactions.command", true);
+    setPermission("mobactions.event.*", true);
+    setPermission("mobactions.warp", true);
+    setPermission("mobactions.warp.*", true);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public UUID getUniqueId() {
+    return uid;
+  }
+
+  @Override
+  public Location getLocation() {
+    return location.clone();
+  }
+
+  @Override
+  public World getWorld() {
+    return location.getWorld();
+  }
+
+  @Override
+  public boolean performCommand(String command) {
+    commands++;
+    return true;
+  }
+
+  @Override
+  public boolean teleport(Location location) {
+    return teleport(location, PlayerTeleportEvent.TeleportCause.PLUGIN);
+  }
+
+  @Override
+  public boolean teleport(Location location, PlayerTeleportEvent.TeleportCause cause) {
+    this.location = location.clone();
+    teleports++;
+    return true;
+  }
+
+  int getCommands() {
+    return commands;
+  }
+
+  int getTeleports() {
+    return teleports;
+  }
+}
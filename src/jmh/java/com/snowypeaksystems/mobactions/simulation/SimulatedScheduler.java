@@ -0,0 +1,106 @@
+package com.snowypeaksystems.mobactions.simulation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * A single threaded stand-in for the server scheduler that only runs tasks when ticked.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+final class SimulatedScheduler {
+  private final Map<Integer, Task> tasks = new LinkedHashMap<>();
+  private int nextId = 1;
+  private long currentTick;
+
+  /** Schedules the runnable to run after delay ticks, then every period ticks if positive. */
+  BukkitTask schedule(Plugin owner, Runnable runnable, long delay, long period) {
+    Task task = new Task(nextId++, owner, runnable, currentTick + Math.max(1, delay), period);
+    tasks.put(task.getTaskId(), task);
+    return task;
+  }
+
+  void cancel(int taskId) {
+    Task task = tasks.remove(taskId);
+
+    if (task != null) {
+      task.cancelled = true;
+    }
+  }
+
+  /** Advances the scheduler by one tick, running every task that is due. */
+  void tick() {
+    currentTick++;
+
+    // Tasks may schedule or cancel other tasks while running
+    List<Task> due = new ArrayList<>();
+    for (Task task : tasks.values()) {
+      if (task.nextRun <= currentTick) {
+        due.add(task);
+      }
+    }
+
+    for (Task task : due) {
+      if (task.cancelled) {
+        continue;
+      }
+
+      if (task.period > 0) {
+        task.nextRun += task.period;
+      } else {
+        cancel(task.getTaskId());
+      }
+
+      task.runnable.run();
+    }
+  }
+
+  int getPendingTasks() {
+    return tasks.size();
+  }
+
+  private final class Task implements BukkitTask {
+    private final int id;
+    private final Plugin owner;
+    private final Runnable runnable;
+    private final long period;
+    private long nextRun;
+    private boolean cancelled;
+
+    private Task(int id, Plugin owner, Runnable runnable, long nextRun, long period) {
+      this.id = id;
+      this.owner = owner;
+      this.runnable = runnable;
+      this.nextRun = nextRun;
+      this.period = period;
+    }
+
+    @Override
+    public int getTaskId() {
+      return id;
+    }
+
+    @Override
+    public Plugin getOwner() {
+      return owner;
+    }
+
+    @Override
+    public boolean isSync() {
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    @Override
+    public void cancel() {
+      SimulatedScheduler.this.cancel(id);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.snowypeaksystems.mobactions.simulation;
+
+import com.snowypeaksystems.mobactions.mock.FakeConsoleCommandSender;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+/**
+ * A headless server with a single world that records the listeners and commands plugins register.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+final class SimulatedServer {
+  private final Logger logger = Logger.getLogger("Simulation");
+  private final ConsoleCommandSender console = new FakeConsoleCommandSender();
+  private final List<Listener> listeners = new ArrayList<>();
+  private final Map<String, PluginCommand> commands = new HashMap<>();
+  private final World world;
+  private final SimulatedScheduler scheduler;
+  private final Server server;
+  private final BukkitScheduler bukkitScheduler;
+  private final PluginManager pluginManager;
+
+  SimulatedServer(World world, SimulatedScheduler scheduler) {
+    this.world = world;
+    this.scheduler = scheduler;
+    this.server = Proxies.create(Server.class, (self, method, args) -> handleServer(
+        method.getName(), args));
+    this.bukkitScheduler = Proxies.create(BukkitScheduler.class, (self, method, args) ->
+        handleScheduler(method.getName(), args));
+    this.pluginManager = Proxies.create(PluginManager.class, (self, method, args) ->
+        handlePluginManager(method.getName(), args));
+
+    // The plugin's own debug and info messages are not part of the load being measured
+    logger.setLevel(Level.WARNING);
+  }
+
+  Server getServer() {
+    return server;
+  }
+
+  /** Adds a command owned by plugin, as if it was declared in the plugin's plugin.yml. */
+  PluginCommand registerCommand(String name, Plugin plugin) throws ReflectiveOperationException {
+    Constructor<PluginCommand> constructor =
+        PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
+    constructor.setAccessible(true);
+
+    try {
+      PluginCommand command = constructor.newInstance(name, plugin);
+      commands.put(name, command);
+      return command;
+    } catch (InvocationTargetException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /** Returns the first registered listener of the provided type. */
+  <T> T getListener(Class<T> type) {
+    for (Listener listener : listeners) {
+      if (type.isInstance(listener)) {
+        return type.cast(listener);
+      }
+    }
+
+    throw new IllegalStateException("No " + type.getSimpleName() + " was registered");
+  }
+
+  private Object handleServer(String method, Object[] args) {
+    switch (method) {
+      case "getLogger":
+        return logger;
+      case "getName":
+        return "Simulation";
+      case "getVersion":
+        return "git-Simulation (MC: 1.16.5)";
+      case "getBukkitVersion":
+        return "1.16.5-R0.1-SNAPSHOT";
+      case "isPrimaryThread":
+        return true;
+      case "getScheduler":
+        return bukkitScheduler;
+      case "getPluginManager":
+        return pluginManager;
+      case "getConsoleSender":
+        return console;
+      case "getPluginCommand":
+        return commands.get((String) args[0]);
+      case "getWorlds":
+        return List.of(world);
+      case "getWorld":
+        return args[0] instanceof UUID ? getWorld((UUID) args[0]) : getWorld((String) args[0]);
+      default:
+        throw Proxies.unsupported(Server.class, method);
+    }
+  }
+
+  private Object handleScheduler(String method, Object[] args) {
+    switch (method) {
+      case "runTask":
+        return scheduler.schedule((Plugin) args[0], (Runnable) args[1], 0, 0);
+      case "runTaskLater":
+        return scheduler.schedule((Plugin) args[0], (Runnable) args[1], (long) args[2], 0);
+      case "runTaskTimer":
+        return scheduler.schedule((Plugin) args[0], (Runnable) args[1], (long) args[2],
+            (long) args[3]);
+      case "cancelTask":
+        scheduler.cancel((int) args[0]);
+        return null;
+      default:
+        throw Proxies.unsupported(BukkitScheduler.class, method);
+    }
+  }
+
+  private Object handlePluginManager(String method, Object[] args) {
+    switch (method) {
+      case "registerEvents":
+        listeners.add((Listener) args[0]);
+        return null;
+      case "callEvent":
+        // No other plugins are installed, so no handler could cancel the event
+        return null;
+      default:
+        throw Proxies.unsupported(PluginManager.class, method);
+    }
+  }
+
+  private World getWorld(String name) {
+    return world.getName().equals(name) ? world : null;
+  }
+
+  private World getWorld(UUID uid) {
+    return world.getUID().equals(uid) ? world : null;
+  }
+}
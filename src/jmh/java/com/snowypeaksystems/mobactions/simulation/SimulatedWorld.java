@@ -0,0 +1,34 @@
+package com.snowypeaksystems.mobactions.simulation;
+
+import com.snowypeaksystems.mobactions.mock.FakeWorld;
+import java.util.UUID;
+import org.bukkit.Chunk;
+
+/**
+ * A FakeWorld with a stable name and id and no loaded chunks.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class SimulatedWorld extends FakeWorld {
+  private final String name;
+  private final UUID uid;
+
+  SimulatedWorld(String name, UUID uid) {
+    this.name = name;
+    this.uid = uid;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public UUID getUID() {
+    return uid;
+  }
+
+  @Override
+  public Chunk[] getLoadedChunks() {
+    return new Chunk[0];
+  }
+}
@@ -0,0 +1,51 @@
+package com.snowypeaksystems.mobactions.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for filling in message templates.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageBenchmark {
+  private IMessage constant;
+  private IMessage single;
+  private IMessage multiple;
+
+  @Setup
+  public void setUp() {
+    constant = new Message("&cYou do not have permission to do this!");
+    single = new Message("&aCreated warp {&c}!");
+    multiple = new Message("&e{}: &f{} calls, {} / {} / {} \u00b5s");
+  }
+
+  @Benchmark
+  public String replaceConstant() {
+    return constant.replace();
+  }
+
+  @Benchmark
+  public String replaceSingle() {
+    return single.replace("spawn");
+  }
+
+  @Benchmark
+  public String replaceMultiple() {
+    return multiple.replace("listener.interact", "1024", "12", "80", "950");
+  }
+}
@@ -0,0 +1,78 @@
+package com.snowypeaksystems.mobactions.warp;
+
+import com.snowypeaksystems.mobactions.mock.FakeWorld;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for loading warps from disk.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WarpManagerBenchmark {
+  @Param({"10", "1000"})
+  private int warpCount;
+  private Path folder;
+  private World world; // Need to keep a reference ourselves or gc will set to null
+  private IWarpManager manager;
+
+  /** Creates a folder with warpCount saved warps. */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("mobactions-warps");
+    world = new FakeWorld();
+    manager = new WarpManager(folder.toFile());
+
+    for (int i = 0; i < warpCount; i++) {
+      manager.makeWarp("warp" + i, new Location(world, i, 64, -i, 90, 0));
+    }
+  }
+
+  /** Deletes the folder created by setUp. */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    manager.close();
+
+    try (Stream<Path> paths = Files.walk(folder)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  /** Reloading when nothing changed on disk, which is what /mac reload usually does. */
+  @Benchmark
+  public IWarpManager reload() {
+    manager.reload();
+    return manager;
+  }
+
+  /** Loading every warp from disk, which is what happens on startup. */
+  @Benchmark
+  public IWarpManager load() throws IOException {
+    return new WarpManager(folder.toFile());
+  }
+}
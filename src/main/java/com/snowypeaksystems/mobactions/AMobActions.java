@@ -1,10 +1,22 @@
 package com.snowypeaksystems.mobactions;
 
+import java.io.File;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
 
 /**
  * An object to provide access to other APIs.
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public abstract class AMobActions extends JavaPlugin implements IMobActions {
+  protected AMobActions() {
+    super();
+  }
+
+  /** Creates the plugin outside of a server's plugin loader, such as in benchmarks. */
+  protected AMobActions(JavaPluginLoader loader, PluginDescriptionFile description,
+                        File dataFolder, File file) {
+    super(loader, description, dataFolder, file);
+  }
 }
@@ -3,6 +3,7 @@ package com.snowypeaksystems.mobactions;
 import com.snowypeaksystems.mobactions.data.IncompleteDataException;
 import com.snowypeaksystems.mobactions.mobevent.IMobEventManager;
 import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
 import com.snowypeaksystems.mobactions.warp.IWarpManager;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.LivingEntity;
@@ -26,4 +27,13 @@ public interface IMobActions {
   IInteractiveMob getInteractiveMob(LivingEntity entity) throws IncompleteDataException;
 
   IMobEventManager getMobEventManager();
+
+  /** Returns the cache of decoded IInteractiveMobs. */
+  InteractiveMobCache getInteractiveMobCache();
+
+  /** Returns the index of loaded IInteractiveMobs. */
+  InteractiveMobIndex getInteractiveMobIndex();
+
+  /** Returns the scheduler that runs tasks on the thread that owns what they change. */
+  ITaskScheduler getScheduler();
 }
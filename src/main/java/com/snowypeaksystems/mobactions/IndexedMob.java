@@ -0,0 +1,58 @@
+package com.snowypeaksystems.mobactions;
+
+import java.util.UUID;
+
+/**
+ * A MobActions mob known to the InteractiveMobIndex. The chunk is the one the mob was in when it
+ * was indexed.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class IndexedMob {
+  private final UUID uuid;
+  private final UUID worldId;
+  private final int chunkX;
+  private final int chunkZ;
+  private final String typeKey;
+  private final String alias;
+
+  IndexedMob(UUID uuid, UUID worldId, int chunkX, int chunkZ, String typeKey, String alias) {
+    this.uuid = uuid;
+    this.worldId = worldId;
+    this.chunkX = chunkX;
+    this.chunkZ = chunkZ;
+    this.typeKey = typeKey;
+    this.alias = alias;
+  }
+
+  /** Returns the UUID of the entity. */
+  public UUID getUniqueId() {
+    return uuid;
+  }
+
+  /** Returns the UUID of the world the entity is in. */
+  public UUID getWorldId() {
+    return worldId;
+  }
+
+  public int getChunkX() {
+    return chunkX;
+  }
+
+  public int getChunkZ() {
+    return chunkZ;
+  }
+
+  /** Returns the key String for the type of MobData stored on the mob. */
+  public String getTypeKey() {
+    return typeKey;
+  }
+
+  /** Returns the alias of the warp or event the mob points to, or null if there is none. */
+  public String getAlias() {
+    return alias;
+  }
+
+  long getChunkKey() {
+    return InteractiveMobIndex.getChunkKey(chunkX, chunkZ);
+  }
+}
@@ -1,54 +1,38 @@
 package com.snowypeaksystems.mobactions;
 
+import com.snowypeaksystems.mobactions.data.DataKeys;
 import com.snowypeaksystems.mobactions.data.IncompleteDataException;
 import com.snowypeaksystems.mobactions.data.MobData;
+import com.snowypeaksystems.mobactions.data.MobDataDecoder;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.logging.Level;
-import org.bukkit.Bukkit;
-import org.bukkit.NamespacedKey;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.plugin.java.JavaPlugin;
 
 public class InteractiveMob implements IInteractiveMob {
-  private final JavaPlugin plugin;
+  private final AMobActions plugin;
+  private final DataKeys keys;
   private final LivingEntity entity;
   private MobData data;
 
-  InteractiveMob(LivingEntity entity, JavaPlugin plugin) throws IncompleteDataException {
+  InteractiveMob(LivingEntity entity, AMobActions plugin) throws IncompleteDataException {
     if (entity instanceof Player) {
       throw new IllegalArgumentException("The entity cannot be a player");
     }
     
     this.entity = entity;
     this.plugin = plugin;
+    this.keys = DataKeys.of(plugin);
 
     String key = entity.getPersistentDataContainer()
-        .get(new NamespacedKey(plugin, DATA_KEY), PersistentDataType.STRING);
+        .get(keys.getDataKey(), PersistentDataType.STRING);
 
     if (key != null) {
-      if (MobData.DATA_KEY_MAP.containsKey(key)) {
-        try {
-          Constructor<? extends MobData> c = MobData.DATA_KEY_MAP.get(key)
-              .getConstructor(LivingEntity.class, JavaPlugin.class);
-          data = c.newInstance(entity, plugin);
-        } catch (NoSuchMethodException e) {
-          Bukkit.getLogger().log(Level.WARNING, "Unrecognized data key found", e.getCause());
-        } catch (InvocationTargetException e) {
-          if (e.getCause() instanceof IncompleteDataException) {
-            throw (IncompleteDataException) e.getCause();
-          } else {
-            DebugLogger.getLogger().log("Error running constructor");
-            Bukkit.getLogger().log(Level.SEVERE, "Error running constructor", e.getCause());
-          }
-        } catch (IllegalAccessException | InstantiationException e) {
-          DebugLogger.getLogger().log("Error creating mob from recognized class");
-          Bukkit.getLogger().log(Level.SEVERE, "Error creating mob from recognized class",
-              e.getCause());
-        }
+      MobDataDecoder decoder = MobData.DECODER_MAP.get(key);
+      if (decoder != null) {
+        data = decoder.decode(entity, plugin);
+      } else {
+        DebugLogger.getLogger().log(() -> "Unrecognized data key found: " + key);
       }
     }
   }
@@ -59,46 +43,55 @@ public class InteractiveMob implements IInteractiveMob {
       if (!exists()) {
         int doRemove = entity.getRemoveWhenFarAway() ? 1 : 0;
         entity.getPersistentDataContainer().set(
-            new NamespacedKey(plugin, REMOVE_DEFAULT_KEY), PersistentDataType.INTEGER, doRemove);
-        DebugLogger.getLogger().log("Original despawn setting: " + (doRemove == 1));
+            keys.getRemoveDefaultKey(), PersistentDataType.INTEGER, doRemove);
+        DebugLogger.getLogger().log(() -> "Original despawn setting: " + (doRemove == 1));
       }
 
       entity.getPersistentDataContainer()
-          .set(new NamespacedKey(plugin, DATA_KEY), PersistentDataType.STRING, data.getKeyString());
+          .set(keys.getDataKey(), PersistentDataType.STRING, data.getKeyString());
 
       data.store(entity, plugin);
 
       entity.setRemoveWhenFarAway(false);
       entity.setCustomNameVisible(true);
       entity.setCustomName(data.getNametagString());
+      plugin.getInteractiveMobCache().invalidate(entity);
+      plugin.getInteractiveMobIndex().add(entity, data);
     }
   }
 
   @Override
   public void purge() {
     Integer removeDefault = entity.getPersistentDataContainer().get(
-        new NamespacedKey(plugin, REMOVE_DEFAULT_KEY), PersistentDataType.INTEGER);
+        keys.getRemoveDefaultKey(), PersistentDataType.INTEGER);
     if (removeDefault != null) {
       boolean original = removeDefault == 1;
       entity.setRemoveWhenFarAway(original);
-      DebugLogger.getLogger().log("Reset original despawn setting: " + original);
+      DebugLogger.getLogger().log(() -> "Reset original despawn setting: " + original);
     }
 
     entity.setCustomNameVisible(false);
     entity.setCustomName(null);
 
-    entity.getPersistentDataContainer().remove(new NamespacedKey(plugin, DATA_KEY));
-    entity.getPersistentDataContainer().remove(new NamespacedKey(plugin, REMOVE_DEFAULT_KEY));
+    entity.getPersistentDataContainer().remove(keys.getDataKey());
+    entity.getPersistentDataContainer().remove(keys.getRemoveDefaultKey());
 
     if (data != null) {
       data.purge(entity, plugin);
     }
+
+    plugin.getInteractiveMobCache().invalidate(entity);
+    plugin.getInteractiveMobIndex().remove(entity);
   }
 
   @Override
   public boolean exists() {
     return entity.getPersistentDataContainer()
-        .has(new NamespacedKey(plugin, DATA_KEY), PersistentDataType.STRING);
+        .has(keys.getDataKey(), PersistentDataType.STRING);
+  }
+
+  LivingEntity getEntity() {
+    return entity;
   }
 
   @Override
@@ -0,0 +1,105 @@
+package com.snowypeaksystems.mobactions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * A bounded, least recently used cache of decoded InteractiveMobs keyed by entity UUID.
+ * Entries must be invalidated whenever the data stored on the entity changes or the entity is
+ * unloaded. Every method locks the cache, since looking a mob up reorders it and mobs are looked
+ * up from every region thread on Folia.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class InteractiveMobCache {
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private final Map<UUID, InteractiveMob> mobs;
+  private int capacity;
+  private long hits;
+  private long misses;
+
+  /** Creates a cache that holds at most capacity mobs. */
+  public InteractiveMobCache(int capacity) {
+    this.capacity = checkCapacity(capacity);
+    this.mobs = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, InteractiveMob> eldest) {
+        return size() > InteractiveMobCache.this.capacity;
+      }
+    };
+  }
+
+  /** Returns the cached mob for the entity, or null if it is not cached. */
+  synchronized InteractiveMob get(LivingEntity entity) {
+    InteractiveMob mob = mobs.get(entity.getUniqueId());
+
+    // The entity object changes if the entity was unloaded and loaded again
+    if (mob != null && mob.getEntity() == entity) {
+      hits++;
+      return mob;
+    }
+
+    misses++;
+    return null;
+  }
+
+  /** Adds the mob to the cache. */
+  synchronized void put(InteractiveMob mob) {
+    if (capacity > 0) {
+      mobs.put(mob.getEntity().getUniqueId(), mob);
+    }
+  }
+
+  /** Removes the entity from the cache, if present. */
+  public void invalidate(Entity entity) {
+    invalidate(entity.getUniqueId());
+  }
+
+  /** Removes the entity with the provided UUID from the cache, if present. */
+  public synchronized void invalidate(UUID uuid) {
+    mobs.remove(uuid);
+  }
+
+  /** Removes all entries from the cache. */
+  public synchronized void clear() {
+    mobs.clear();
+  }
+
+  /** Sets the maximum number of cached mobs. A capacity of 0 disables the cache. */
+  public synchronized void setCapacity(int capacity) {
+    this.capacity = checkCapacity(capacity);
+
+    if (mobs.size() > capacity) {
+      mobs.clear();
+    }
+  }
+
+  private static int checkCapacity(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Argument \"capacity\" cannot be less than 0");
+    }
+
+    return capacity;
+  }
+
+  public synchronized int getCapacity() {
+    return capacity;
+  }
+
+  public synchronized int size() {
+    return mobs.size();
+  }
+
+  /** Returns the number of lookups that were served from the cache. */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /** Returns the number of lookups that required decoding the entity's data. */
+  public synchronized long getMisses() {
+    return misses;
+  }
+}
@@ -0,0 +1,258 @@
+package com.snowypeaksystems.mobactions;
+
+import com.snowypeaksystems.mobactions.data.AliasedData;
+import com.snowypeaksystems.mobactions.data.DataKeys;
+import com.snowypeaksystems.mobactions.data.IEventData;
+import com.snowypeaksystems.mobactions.data.IWarpData;
+import com.snowypeaksystems.mobactions.data.MobData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Keeps track of where loaded MobActions mobs are, by world and chunk, and what they point to.
+ * This allows ordinary entities to be ignored without reading their persistent data and mobs to be
+ * looked up without iterating over every entity in a world. Mobs are indexed by the chunk they
+ * were in when their chunk loaded, when they were created or when they were last used, so a mob
+ * that has walked away since is still found in its old chunk until one of those happens again.
+ * Unloading a chunk removes the mobs that are in it, wherever they were indexed. Changes are made
+ * under the index's lock, since chunks load and mobs die on every region thread on Folia, while
+ * checking whether an entity is a mob does not lock.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class InteractiveMobIndex {
+  private final DataKeys keys;
+  private final Map<UUID, IndexedMob> mobs;
+  private final Map<UUID, Map<Long, Map<UUID, IndexedMob>>> worlds;
+  private final Map<String, Map<UUID, IndexedMob>> aliases;
+
+  /** Creates an empty index for the provided plugin's mobs. */
+  public InteractiveMobIndex(Plugin plugin) {
+    this.keys = DataKeys.of(plugin);
+    this.mobs = new ConcurrentHashMap<>();
+    this.worlds = new HashMap<>();
+    this.aliases = new HashMap<>();
+  }
+
+  /** Returns true if the entity is a MobActions mob, false otherwise. */
+  public boolean contains(Entity entity) {
+    return mobs.containsKey(entity.getUniqueId());
+  }
+
+  /** Returns the indexed mob for the entity, or null if it is not a MobActions mob. */
+  public IndexedMob get(Entity entity) {
+    return mobs.get(entity.getUniqueId());
+  }
+
+  /** Adds the entity to the index with the provided data. */
+  public void add(Entity entity, MobData data) {
+    String alias = data instanceof AliasedData ? ((AliasedData) data).getAlias() : null;
+    add(entity, data.getKeyString(), alias);
+  }
+
+  /** Moves the entity to the chunk it is in now, if it is indexed and has left its chunk. */
+  public void update(Entity entity) {
+    IndexedMob mob = mobs.get(entity.getUniqueId());
+    if (mob == null) {
+      return;
+    }
+
+    Location loc = entity.getLocation();
+    if (mob.getChunkX() != loc.getBlockX() >> 4 || mob.getChunkZ() != loc.getBlockZ() >> 4
+        || !Objects.equals(mob.getWorldId(), entity.getWorld().getUID())) {
+      move(mob, new IndexedMob(mob.getUniqueId(), entity.getWorld().getUID(),
+          loc.getBlockX() >> 4, loc.getBlockZ() >> 4, mob.getTypeKey(), mob.getAlias()));
+    }
+  }
+
+  private synchronized void move(IndexedMob from, IndexedMob to) {
+    // The mob may have died or been replaced since it was read
+    if (mobs.get(from.getUniqueId()) == from) {
+      add(to);
+    }
+  }
+
+  /** Removes the entity from the index, if present. */
+  public void remove(Entity entity) {
+    remove(entity.getUniqueId());
+  }
+
+  private synchronized void remove(UUID uuid) {
+    IndexedMob mob = mobs.remove(uuid);
+
+    if (mob == null) {
+      return;
+    }
+
+    Map<Long, Map<UUID, IndexedMob>> chunks = worlds.get(mob.getWorldId());
+    if (chunks != null) {
+      removeFrom(chunks, mob.getChunkKey(), mob);
+
+      if (chunks.isEmpty()) {
+        worlds.remove(mob.getWorldId());
+      }
+    }
+
+    if (mob.getAlias() != null) {
+      removeFrom(aliases, getAliasKey(mob.getTypeKey(), mob.getAlias()), mob);
+    }
+  }
+
+  /** Adds all MobActions mobs in the chunk to the index. */
+  public void scan(Chunk chunk) {
+    for (Entity entity : chunk.getEntities()) {
+      if (!(entity instanceof LivingEntity) || entity instanceof Player) {
+        continue;
+      }
+
+      PersistentDataContainer container = entity.getPersistentDataContainer();
+      String type = container.get(keys.getDataKey(), PersistentDataType.STRING);
+
+      if (type != null) {
+        String alias = null;
+        if (IWarpData.WARP_KEY.equals(type)) {
+          alias = container.get(keys.getWarpKey(), PersistentDataType.STRING);
+        } else if (IEventData.EVENT_KEY.equals(type)) {
+          alias = container.get(keys.getEventKey(), PersistentDataType.STRING);
+        }
+
+        add(entity, type, alias);
+      }
+    }
+  }
+
+  /** Adds all MobActions mobs in the loaded chunks of the world to the index. */
+  public void scan(World world) {
+    for (Chunk chunk : world.getLoadedChunks()) {
+      scan(chunk);
+    }
+  }
+
+  /** Removes all entities in the chunk from the index. */
+  public void unload(Chunk chunk) {
+    for (Entity entity : chunk.getEntities()) {
+      remove(entity);
+    }
+  }
+
+  /** Returns the mobs with the provided type key that point to the provided alias. */
+  public synchronized Collection<IndexedMob> getMobs(String typeKey, String alias) {
+    Map<UUID, IndexedMob> matches = aliases.get(getAliasKey(typeKey, alias));
+    return matches == null ? Collections.emptyList() : List.copyOf(matches.values());
+  }
+
+  /**
+   * Returns the mobs indexed in the chunk. Mobs that walked into the chunk since they were indexed
+   * are not included, and mobs that walked out of it still are.
+   */
+  public Collection<IndexedMob> getMobs(Chunk chunk) {
+    return getMobs(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+  }
+
+  private synchronized Collection<IndexedMob> getMobs(UUID worldId, int chunkX, int chunkZ) {
+    Map<Long, Map<UUID, IndexedMob>> chunks = worlds.get(worldId);
+    if (chunks == null) {
+      return Collections.emptyList();
+    }
+
+    Map<UUID, IndexedMob> matches = chunks.get(getChunkKey(chunkX, chunkZ));
+    return matches == null ? Collections.emptyList() : List.copyOf(matches.values());
+  }
+
+  /**
+   * Returns the mobs indexed in the chunks between the two chunk coordinates, inclusive. Like
+   * getMobs(Chunk), this uses the chunk each mob was in when it was last indexed.
+   */
+  public synchronized Collection<IndexedMob> getMobs(World world, int chunkX1, int chunkZ1,
+                                                     int chunkX2, int chunkZ2) {
+    Map<Long, Map<UUID, IndexedMob>> chunks = worlds.get(world.getUID());
+    if (chunks == null) {
+      return Collections.emptyList();
+    }
+
+    int minX = Math.min(chunkX1, chunkX2);
+    int maxX = Math.max(chunkX1, chunkX2);
+    int minZ = Math.min(chunkZ1, chunkZ2);
+    int maxZ = Math.max(chunkZ1, chunkZ2);
+    List<IndexedMob> matches = new ArrayList<>();
+
+    // Only chunks that contain mobs are stored, so this is cheaper than visiting every chunk
+    for (Map.Entry<Long, Map<UUID, IndexedMob>> chunk : chunks.entrySet()) {
+      int x = (int) (chunk.getKey() >> 32);
+      int z = (int) chunk.getKey().longValue();
+
+      if (x >= minX && x <= maxX && z >= minZ && z <= maxZ) {
+        matches.addAll(chunk.getValue().values());
+      }
+    }
+
+    return matches;
+  }
+
+  /** Removes all entries from the index. */
+  public synchronized void clear() {
+    mobs.clear();
+    worlds.clear();
+    aliases.clear();
+  }
+
+  public int size() {
+    return mobs.size();
+  }
+
+  static long getChunkKey(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
+  private void add(Entity entity, String typeKey, String alias) {
+    // Read the entity before locking, so other regions are not held up by it
+    Location loc = entity.getLocation();
+    IndexedMob mob = new IndexedMob(entity.getUniqueId(), entity.getWorld().getUID(),
+        loc.getBlockX() >> 4, loc.getBlockZ() >> 4, typeKey, alias);
+    add(mob);
+  }
+
+  private synchronized void add(IndexedMob mob) {
+    remove(mob.getUniqueId());
+
+    mobs.put(mob.getUniqueId(), mob);
+    worlds.computeIfAbsent(mob.getWorldId(), k -> new HashMap<>())
+        .computeIfAbsent(mob.getChunkKey(), k -> new HashMap<>())
+        .put(mob.getUniqueId(), mob);
+
+    if (mob.getAlias() != null) {
+      aliases.computeIfAbsent(getAliasKey(mob.getTypeKey(), mob.getAlias()), k -> new HashMap<>())
+          .put(mob.getUniqueId(), mob);
+    }
+  }
+
+  private static <K> void removeFrom(Map<K, Map<UUID, IndexedMob>> map, K key, IndexedMob mob) {
+    Map<UUID, IndexedMob> entries = map.get(key);
+    if (entries != null) {
+      entries.remove(mob.getUniqueId());
+
+      if (entries.isEmpty()) {
+        map.remove(key);
+      }
+    }
+  }
+
+  private static String getAliasKey(String typeKey, String alias) {
+    return typeKey + ':' + alias.toLowerCase();
+  }
+}
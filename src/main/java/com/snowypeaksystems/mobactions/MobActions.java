@@ -1,28 +1,39 @@
 package com.snowypeaksystems.mobactions;
 
+import com.snowypeaksystems.mobactions.data.AsyncFileDataWriter;
+import com.snowypeaksystems.mobactions.data.DataKeys;
 import com.snowypeaksystems.mobactions.data.IncompleteDataException;
+import com.snowypeaksystems.mobactions.listener.AsyncTabCompleteListener;
 import com.snowypeaksystems.mobactions.listener.CommandListener;
 import com.snowypeaksystems.mobactions.listener.EventListener;
 import com.snowypeaksystems.mobactions.listener.ICommandListener;
 import com.snowypeaksystems.mobactions.mobevent.IMobEventManager;
+import com.snowypeaksystems.mobactions.mobevent.MobEvent;
 import com.snowypeaksystems.mobactions.mobevent.MobEventManager;
-import com.snowypeaksystems.mobactions.player.ConsoleUser;
-import com.snowypeaksystems.mobactions.player.MobActionsPlayer;
 import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.player.PermissionCache;
+import com.snowypeaksystems.mobactions.player.UserRegistry;
+import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.FoliaTaskScheduler;
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
 import com.snowypeaksystems.mobactions.util.Messages;
+import com.snowypeaksystems.mobactions.util.TaskScheduler;
+import com.snowypeaksystems.mobactions.util.TimerWheel;
+import com.snowypeaksystems.mobactions.warp.CompactWarpManager;
 import com.snowypeaksystems.mobactions.warp.IWarpManager;
 import com.snowypeaksystems.mobactions.warp.WarpManager;
 import io.papermc.lib.PaperLib;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 import java.util.logging.Level;
+import org.bukkit.World;
 import org.bukkit.command.CommandSender;
-import org.bukkit.command.ConsoleCommandSender;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
 
 /**
  * Main class which handles initialization of the plugin. Additionally,
@@ -32,25 +43,51 @@ import org.bukkit.entity.Player;
 public class MobActions extends AMobActions {
   private IWarpManager warps;
   private IMobEventManager events;
-  private Map<Player, MobActionsUser> players;
+  private UserRegistry users;
+  private InteractiveMobCache mobCache;
+  private InteractiveMobIndex mobIndex;
+  private ITaskScheduler scheduler;
+
+  public MobActions() {
+    super();
+  }
+
+  /** Creates the plugin outside of a server's plugin loader, such as in benchmarks. */
+  protected MobActions(JavaPluginLoader loader, PluginDescriptionFile description,
+                       File dataFolder, File file) {
+    super(loader, description, dataFolder, file);
+  }
 
   @Override
   public void onEnable() {
     PaperLib.suggestPaper(this);
 
     saveDefaultConfig();
-    Messages.setDataDir(getDataFolder());
+    // Load the config without reloading managers that do not exist yet
+    super.reloadConfig();
+    applySettings();
+    DataKeys.of(this);
+    mobCache = new InteractiveMobCache(getMobCacheSize());
+    mobIndex = new InteractiveMobIndex(this);
+    users = new UserRegistry(getServer());
+    scheduler = makeScheduler();
 
     File warpDir = new File(getDataFolder(), "warps");
-    if (!warpDir.exists() && !warpDir.mkdirs()) {
+    boolean compactWarps = "compact".equalsIgnoreCase(getConfig().getString("warp-storage"));
+    if (!compactWarps && !warpDir.exists() && !warpDir.mkdirs()) {
       getLogger().log(Level.SEVERE, "Could not create warp data folder! Aborting!");
       setEnabled(false);
       return;
     }
 
     try {
-      warps = new WarpManager(warpDir);
-    } catch (FileNotFoundException e) {
+      if (compactWarps) {
+        warps = new CompactWarpManager(new File(getDataFolder(), "warps.dat"), warpDir,
+            new AsyncFileDataWriter(getLogger()));
+      } else {
+        warps = new WarpManager(warpDir, new AsyncFileDataWriter(getLogger()));
+      }
+    } catch (IOException e) {
       getLogger().log(Level.SEVERE, e.getMessage(), e);
       setEnabled(false);
       return;
@@ -63,8 +100,12 @@ public class MobActions extends AMobActions {
       return;
     }
 
+    // Every event timeout and countdown is driven by this one task
+    TimerWheel timers = new TimerWheel();
+    scheduler.runGlobalTimer(timers::tick, 1, 1);
+
     try {
-      events = new MobEventManager(this, eventDir);
+      events = new MobEventManager(this, eventDir, timers);
     } catch (FileNotFoundException e) {
       getLogger().log(Level.SEVERE, e.getMessage(), e);
       setEnabled(false);
@@ -82,14 +123,28 @@ public class MobActions extends AMobActions {
     cmd.setExecutor(cl);
     cmd.setTabCompleter(cl);
 
-    players = new HashMap<>();
+    // Paper completes commands off the main thread, the completer is the fallback elsewhere
+    if (PaperLib.isPaper()) {
+      getServer().getPluginManager().registerEvents(new AsyncTabCompleteListener(cl, cmd), this);
+    }
+
+    for (World world : getServer().getWorlds()) {
+      mobIndex.scan(world);
+    }
 
-    getServer().getPluginManager().registerEvents(new EventListener(this, players), this);
+    getServer().getPluginManager().registerEvents(new EventListener(this, users), this);
 
     getLogger().info("Rise and shine, MobActions is ready to go!");
     getLogger().info("Please consider donating at https://github.com/sponsors/leviem1/");
   }
 
+  @Override
+  public void onDisable() {
+    if (warps != null) {
+      warps.close();
+    }
+  }
+
   @Override
   public IWarpManager getWarpManager() {
     return warps;
@@ -97,29 +152,24 @@ public class MobActions extends AMobActions {
 
   @Override
   public MobActionsUser getPlayer(Player player) {
-    if (players.containsKey(player)) {
-      return players.get(player);
-    }
-
-    MobActionsUser wrappedPlayer = new MobActionsPlayer(player);
-
-    players.put(player, wrappedPlayer);
-
-    return wrappedPlayer;
+    return users.get(player);
   }
 
   @Override
   public MobActionsUser getPlayer(CommandSender sender) {
-    if (sender instanceof Player) {
-      return getPlayer((Player) sender);
-    }
-
-    return new ConsoleUser((ConsoleCommandSender) sender, getServer());
+    return users.get(sender);
   }
 
   @Override
   public IInteractiveMob getInteractiveMob(LivingEntity entity) throws IncompleteDataException {
-    return new InteractiveMob(entity, this);
+    InteractiveMob mob = mobCache.get(entity);
+
+    if (mob == null) {
+      mob = new InteractiveMob(entity, this);
+      mobCache.put(mob);
+    }
+
+    return mob;
   }
 
   @Override
@@ -127,15 +177,69 @@ public class MobActions extends AMobActions {
     return events;
   }
 
+  @Override
+  public InteractiveMobCache getInteractiveMobCache() {
+    return mobCache;
+  }
+
+  @Override
+  public InteractiveMobIndex getInteractiveMobIndex() {
+    return mobIndex;
+  }
+
+  @Override
+  public ITaskScheduler getScheduler() {
+    return scheduler;
+  }
+
   @Override
   public void reloadConfig() {
     super.reloadConfig();
-    Messages.setDataDir(getDataFolder());
+    applySettings();
     Messages.initialize();
     warps.reload();
-    players.clear();
+    users.clear();
     events.reload();
+    mobCache.setCapacity(getMobCacheSize());
+    mobCache.clear();
 
     getLogger().info("MobActions reloaded successfully!");
   }
-}
\ No newline at end of file
+
+  /** Applies the config settings that are kept outside of the managers. */
+  private void applySettings() {
+    Messages.setDataDir(getDataFolder());
+    Messages.setComponentsEnabled(getConfig().getBoolean("component-messages", true));
+    DebugLogger.setEnabled(DebugLogger.isEnvironmentEnabled() || getConfig().getBoolean("debug"));
+    PermissionCache.setLifetime(getConfig().getLong("permission-cache-seconds",
+        PermissionCache.DEFAULT_LIFETIME_SECONDS));
+
+    String countdownDisplay = getConfig().getString("countdown-display", "chat");
+    Messages.Display display = Messages.Display.fromString(countdownDisplay);
+    if (display == Messages.Display.CHAT && !"chat".equalsIgnoreCase(countdownDisplay)) {
+      getLogger().warning("Unknown countdown-display \"" + countdownDisplay + "\", using chat");
+    }
+    MobEvent.setCountdownDisplay(display);
+
+    MobEvent.setStartBudget(
+        getConfig().getInt("event-teleports-per-tick", MobEvent.DEFAULT_TELEPORTS_PER_TICK),
+        getConfig().getInt("event-commands-per-tick", MobEvent.DEFAULT_COMMANDS_PER_TICK));
+  }
+
+  private int getMobCacheSize() {
+    int size = getConfig().getInt("mob-cache-size", InteractiveMobCache.DEFAULT_CAPACITY);
+    return Math.max(0, size);
+  }
+
+  private ITaskScheduler makeScheduler() {
+    if (FoliaTaskScheduler.isFolia()) {
+      try {
+        return new FoliaTaskScheduler(this);
+      } catch (ReflectiveOperationException e) {
+        getLogger().log(Level.SEVERE, "Could not find Folia's schedulers", e);
+      }
+    }
+
+    return new TaskScheduler(this);
+  }
+}
@@ -10,6 +10,7 @@ import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import com.snowypeaksystems.mobactions.player.PermissionException;
 import com.snowypeaksystems.mobactions.player.PlayerException;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
 import org.bukkit.Bukkit;
 
 public class CommandAction implements ICommandAction {
@@ -46,22 +47,46 @@ public class CommandAction implements ICommandAction {
     }
 
     String commandStr = command.getCommand(player.getName());
-    DebugLogger.getLogger().log("Command: " + commandStr);
+    DebugLogger.getLogger().log(() -> "Command: " + commandStr);
 
     if (!callEvent(player, commandStr, isConsoleCommand)) {
-      MobActionsUser user;
-      if (isConsoleCommand) {
-        user = ma.getPlayer(ma.getServer().getConsoleSender());
-      } else {
-        user = player;
+      if (isConsoleCommand && !performConsoleCommand(ma, player, commandStr)) {
+        DebugLogger.getLogger().log("Command queued on the global thread");
+        return;
+      } else if (!isConsoleCommand && !player.performCommand(commandStr)) {
+        DebugLogger.getLogger().log("Command execution failed");
+        throw new CommandActionException();
       }
+      DebugLogger.getLogger().log("Command executed");
+    }
+  }
 
-      if (!user.performCommand(commandStr)) {
+  /**
+   * Performs the command as the console. The console can only run commands on the global thread,
+   * so on any other thread the command is handed to it and failures are sent to the player.
+   * Returns true if the command ran on this thread, false if it was handed to the global thread.
+   * @throws CommandActionException if the command ran on this thread and failed
+   */
+  static boolean performConsoleCommand(AMobActions ma, MobActionsUser player, String command)
+      throws CommandActionException {
+    MobActionsUser console = ma.getPlayer(ma.getServer().getConsoleSender());
+    ITaskScheduler scheduler = ma.getScheduler();
+
+    if (scheduler.isGlobalThread()) {
+      if (!console.performCommand(command)) {
         DebugLogger.getLogger().log("Command execution failed");
         throw new CommandActionException();
       }
-      DebugLogger.getLogger().log("Command executed");
+      return true;
     }
+
+    scheduler.runGlobal(() -> {
+      if (!console.performCommand(command)) {
+        DebugLogger.getLogger().log("Command execution failed");
+        player.sendMessage(new CommandActionException().getPlayerFormattedString());
+      }
+    });
+    return false;
   }
 
   private boolean callEvent(MobActionsUser player, String commandStr, boolean isConsoleCommand) {
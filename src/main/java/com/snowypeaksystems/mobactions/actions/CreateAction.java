@@ -1,7 +1,5 @@
 package com.snowypeaksystems.mobactions.actions;
 
-import static com.snowypeaksystems.mobactions.util.Messages.gm;
-
 import com.snowypeaksystems.mobactions.IInteractiveMob;
 import com.snowypeaksystems.mobactions.InteractiveMobAlreadyExistsException;
 import com.snowypeaksystems.mobactions.data.MobData;
@@ -11,6 +9,7 @@ import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import com.snowypeaksystems.mobactions.player.PermissionException;
 import com.snowypeaksystems.mobactions.player.PlayerException;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.Messages;
 import org.bukkit.Bukkit;
 
 public class CreateAction implements ICreateAction {
@@ -43,7 +42,7 @@ public class CreateAction implements ICreateAction {
       mob.setData(data);
       mob.store();
 
-      player.sendMessage(gm("action-create-success"));
+      Messages.send(player, "action-create-success");
       DebugLogger.getLogger().log("Mob created");
     } else {
       DebugLogger.getLogger().log("Event cancelled");
@@ -1,7 +1,5 @@
 package com.snowypeaksystems.mobactions.actions;
 
-import static com.snowypeaksystems.mobactions.util.Messages.gm;
-
 import com.snowypeaksystems.mobactions.IInteractiveMob;
 import com.snowypeaksystems.mobactions.data.IEventData;
 import com.snowypeaksystems.mobactions.event.MobEventJoinEvent;
@@ -13,6 +11,7 @@ import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import com.snowypeaksystems.mobactions.player.PermissionException;
 import com.snowypeaksystems.mobactions.player.PlayerException;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.Messages;
 import org.bukkit.Bukkit;
 
 public class EventMobJoinAction implements IEventMobJoinAction {
@@ -48,14 +47,15 @@ public class EventMobJoinAction implements IEventMobJoinAction {
       Bukkit.getPluginManager().callEvent(event);
       if (!event.isCancelled()) {
         mobEvent.addPlayer(player);
-        player.sendMessage(gm("event-joined-text", eventName), gm("event-leave-info"));
+        Messages.send(player, "event-joined-text", eventName);
+        Messages.send(player, "event-leave-info");
       }
     } else {
       MobEventLeaveEvent event = new MobEventLeaveEvent(player, mob, mobEvent);
       Bukkit.getPluginManager().callEvent(event);
       if (!event.isCancelled()) {
         mobEvent.removePlayer(player);
-        player.sendMessage(gm("event-left-text", eventName));
+        Messages.send(player, "event-left-text", eventName);
       }
     }
   }
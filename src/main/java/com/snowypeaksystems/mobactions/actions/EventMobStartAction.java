@@ -1,7 +1,5 @@
 package com.snowypeaksystems.mobactions.actions;
 
-import static com.snowypeaksystems.mobactions.util.Messages.gm;
-
 import com.snowypeaksystems.mobactions.AMobActions;
 import com.snowypeaksystems.mobactions.data.ConsoleCommandData;
 import com.snowypeaksystems.mobactions.data.ICommandData;
@@ -11,8 +9,11 @@ import com.snowypeaksystems.mobactions.mobevent.UnsupportedMobEventMobDataExcept
 import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import com.snowypeaksystems.mobactions.player.PlayerException;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.Messages;
 import com.snowypeaksystems.mobactions.warp.IWarp;
 import com.snowypeaksystems.mobactions.warp.WarpNotFoundException;
+import com.snowypeaksystems.mobactions.warp.WorldNotLoadedException;
+import org.bukkit.Location;
 
 public class EventMobStartAction implements IEventMobStartAction {
   private final MobData data;
@@ -40,10 +41,17 @@ public class EventMobStartAction implements IEventMobStartAction {
       }
 
       IWarp warp = ma.getWarpManager().getWarp(warpName);
+      Location destination = warp.getDestination();
+
+      if (destination == null) {
+        DebugLogger.getLogger().log("Warp world not loaded");
+        throw new WorldNotLoadedException(warpName);
+      }
 
-      player.teleport(warp.getDestination()).thenAccept(success -> {
+      player.teleport(destination).thenAccept(success -> {
         if (success) {
-          player.sendMessage(gm("warp-success", warpName));
+          player.runTask(ma.getScheduler(),
+              () -> Messages.send(player, "warp-success", warpName));
           DebugLogger.getLogger().log("Player warped");
         }
       });
@@ -51,13 +59,14 @@ public class EventMobStartAction implements IEventMobStartAction {
     } else if (data instanceof ICommandData) {
       DebugLogger.getLogger().log("Executing command");
       String commandStr = ((ICommandData) data).getCommand(player.getName());
-      DebugLogger.getLogger().log("Command: " + commandStr);
+      DebugLogger.getLogger().log(() -> "Command: " + commandStr);
       boolean isConsoleCommand = data instanceof ConsoleCommandData
           && ((ConsoleCommandData) data).isConsoleCommand();
 
-      if ((!isConsoleCommand && !player.performCommand(commandStr))
-          || (isConsoleCommand && !ma.getPlayer(ma.getServer().getConsoleSender())
-          .performCommand(commandStr))) {
+      if (isConsoleCommand && !CommandAction.performConsoleCommand(ma, player, commandStr)) {
+        DebugLogger.getLogger().log("Command queued on the global thread");
+        return;
+      } else if (!isConsoleCommand && !player.performCommand(commandStr)) {
         DebugLogger.getLogger().log("Command execution failed");
         throw new CommandActionException();
       }
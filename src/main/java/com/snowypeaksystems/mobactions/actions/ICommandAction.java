@@ -1,7 +1,9 @@
 package com.snowypeaksystems.mobactions.actions;
 
 /**
- * Action used to make a player perform an ICommandData command.
+ * Action used to make a player perform an ICommandData command. CommandActionException is only
+ * thrown when the command runs on the calling thread. Console commands run off the global thread
+ * are handed to it instead, and if they fail the player is sent the error message.
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public interface ICommandAction extends MobAction {
@@ -1,7 +1,5 @@
 package com.snowypeaksystems.mobactions.actions;
 
-import static com.snowypeaksystems.mobactions.util.Messages.gm;
-
 import com.snowypeaksystems.mobactions.IInteractiveMob;
 import com.snowypeaksystems.mobactions.InteractiveMobNotFoundException;
 import com.snowypeaksystems.mobactions.event.RemoveIInteractiveMobEvent;
@@ -10,6 +8,7 @@ import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import com.snowypeaksystems.mobactions.player.PermissionException;
 import com.snowypeaksystems.mobactions.player.PlayerException;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.Messages;
 import org.bukkit.Bukkit;
 
 public class RemoveAction implements IRemoveAction {
@@ -38,7 +37,7 @@ public class RemoveAction implements IRemoveAction {
     Bukkit.getPluginManager().callEvent(event);
     if (!event.isCancelled()) {
       mob.purge();
-      player.sendMessage(gm("action-remove-success"));
+      Messages.send(player, "action-remove-success");
       DebugLogger.getLogger().log("Mob removed");
     } else {
       DebugLogger.getLogger().log("Event cancelled");
@@ -1,7 +1,5 @@
 package com.snowypeaksystems.mobactions.actions;
 
-import static com.snowypeaksystems.mobactions.util.Messages.gm;
-
 import com.snowypeaksystems.mobactions.IInteractiveMob;
 import com.snowypeaksystems.mobactions.data.IWarpData;
 import com.snowypeaksystems.mobactions.event.WarpInteractEvent;
@@ -9,21 +7,28 @@ import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import com.snowypeaksystems.mobactions.player.PermissionException;
 import com.snowypeaksystems.mobactions.player.PlayerException;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
+import com.snowypeaksystems.mobactions.util.Messages;
 import com.snowypeaksystems.mobactions.warp.IWarp;
 import com.snowypeaksystems.mobactions.warp.IWarpManager;
 import com.snowypeaksystems.mobactions.warp.WarpNotFoundException;
+import com.snowypeaksystems.mobactions.warp.WorldNotLoadedException;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 
 public class WarpAction implements IWarpAction {
   private final IInteractiveMob mob;
   private final IWarpData warpData;
   private final IWarpManager warpManager;
+  private final ITaskScheduler scheduler;
 
   /** Creates a warp action. */
-  public WarpAction(IInteractiveMob mob, IWarpData data, IWarpManager warpManager) {
+  public WarpAction(IInteractiveMob mob, IWarpData data, IWarpManager warpManager,
+                    ITaskScheduler scheduler) {
     this.mob = mob;
     this.warpManager = warpManager;
     this.warpData = data;
+    this.scheduler = scheduler;
   }
 
   @Override
@@ -42,11 +47,17 @@ public class WarpAction implements IWarpAction {
     }
 
     IWarp warp = warpManager.getWarp(warpName);
+    Location destination = warp.getDestination();
+
+    if (destination == null) {
+      DebugLogger.getLogger().log("Warp world not loaded");
+      throw new WorldNotLoadedException(warpName);
+    }
 
     if (!callEvent(player, warp)) {
-      player.teleport(warp.getDestination()).thenAccept(success -> {
+      player.teleport(destination).thenAccept(success -> {
         if (success) {
-          player.sendMessage(gm("warp-success", warpName));
+          player.runTask(scheduler, () -> Messages.send(player, "warp-success", warpName));
           DebugLogger.getLogger().log("Player warped");
         }
       });
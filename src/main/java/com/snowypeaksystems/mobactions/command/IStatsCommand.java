@@ -0,0 +1,8 @@
+package com.snowypeaksystems.mobactions.command;
+
+/**
+ * Command to show or export timing statistics. Can be run by console.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public interface IStatsCommand extends PlayerCommand {
+}
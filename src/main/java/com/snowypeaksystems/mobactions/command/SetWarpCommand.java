@@ -7,9 +7,7 @@ import com.snowypeaksystems.mobactions.player.PermissionException;
 import com.snowypeaksystems.mobactions.player.PlayerException;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
 import com.snowypeaksystems.mobactions.warp.IWarpManager;
-import com.snowypeaksystems.mobactions.warp.WarpCreateException;
 import com.snowypeaksystems.mobactions.warp.WarpExistsException;
-import java.io.IOException;
 
 public class SetWarpCommand implements ISetWarpCommand {
   private final IWarpManager warpManager;
@@ -34,14 +32,15 @@ public class SetWarpCommand implements ISetWarpCommand {
       throw new WarpExistsException(name);
     }
 
-    try {
-      warpManager.makeWarp(name, player.getLocation());
-      player.sendMessage(gm("warp-create-success", name));
-    } catch (IOException e) {
-      DebugLogger.getLogger().log("Warp save error");
-      throw new WarpCreateException();
-    }
-
-    DebugLogger.getLogger().log("Warp set");
+    // The warp is saved in the background, so the player is told once it is written
+    warpManager.makeWarp(name, player.getLocation()).whenComplete((warp, error) -> {
+      if (error == null) {
+        DebugLogger.getLogger().log("Warp set");
+        player.sendMessage(gm("warp-create-success", name));
+      } else {
+        DebugLogger.getLogger().log("Warp save error");
+        player.sendMessage(gm("warp-create-error"));
+      }
+    });
   }
 }
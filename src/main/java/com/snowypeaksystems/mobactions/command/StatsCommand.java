@@ -0,0 +1,92 @@
+package com.snowypeaksystems.mobactions.command;
+
+import static com.snowypeaksystems.mobactions.util.Messages.gm;
+
+import com.snowypeaksystems.mobactions.AMobActions;
+import com.snowypeaksystems.mobactions.InteractiveMobCache;
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.player.PermissionException;
+import com.snowypeaksystems.mobactions.player.PlayerException;
+import com.snowypeaksystems.mobactions.util.AtomicFile;
+import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.Metrics;
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Implementation of IStatsCommand.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class StatsCommand implements IStatsCommand {
+  public static final String EXPORT_FILE = "stats.yml";
+  private final AMobActions ma;
+  private final boolean export;
+
+  /** Creates a command that shows the statistics, or saves them to a file if export is true. */
+  public StatsCommand(AMobActions ma, boolean export) {
+    this.ma = ma;
+    this.export = export;
+  }
+
+  @Override
+  public void run(MobActionsUser player) throws PlayerException {
+    DebugLogger.getLogger().log("Showing stats");
+    if (!player.canViewStats()) {
+      DebugLogger.getLogger().log("Permission error");
+      throw new PermissionException();
+    }
+
+    if (export) {
+      File file = new File(ma.getDataFolder(), EXPORT_FILE);
+
+      try {
+        AtomicFile.write(file, toYamlConfiguration().saveToString());
+      } catch (IOException e) {
+        DebugLogger.getLogger().log("Error saving stats");
+        throw new StatsExportException();
+      }
+
+      player.sendMessage(gm("stats-export-success", file.getName()));
+    } else {
+      List<String> messages = new ArrayList<>();
+      messages.add(gm("stats-header"));
+
+      for (Metrics.Timer timer : Metrics.getTimers().values()) {
+        if (timer.getCount() > 0) {
+          messages.add(gm("stats-timer", timer.getName(), String.valueOf(timer.getCount()),
+              String.valueOf(timer.getMeanNanos() / 1000),
+              String.valueOf(timer.getPercentileNanos(0.99) / 1000),
+              String.valueOf(timer.getMaxNanos() / 1000)));
+        }
+      }
+
+      InteractiveMobCache cache = ma.getInteractiveMobCache();
+      messages.add(gm("stats-cache", String.valueOf(cache.getHits()),
+          String.valueOf(cache.getMisses()), String.valueOf(cache.size())));
+
+      player.sendMessage(messages.toArray(new String[0]));
+    }
+
+    DebugLogger.getLogger().log("Stats shown");
+  }
+
+  private YamlConfiguration toYamlConfiguration() {
+    YamlConfiguration config = new YamlConfiguration();
+    config.set("time", Instant.now().toString());
+
+    for (Metrics.Timer timer : Metrics.getTimers().values()) {
+      config.createSection("timers." + timer.getName(), timer.toMap());
+    }
+
+    InteractiveMobCache cache = ma.getInteractiveMobCache();
+    config.set("mob-cache.hits", cache.getHits());
+    config.set("mob-cache.misses", cache.getMisses());
+    config.set("mob-cache.size", cache.size());
+    config.set("mob-cache.capacity", cache.getCapacity());
+    return config;
+  }
+}
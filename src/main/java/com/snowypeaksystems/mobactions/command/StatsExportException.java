@@ -0,0 +1,15 @@
+package com.snowypeaksystems.mobactions.command;
+
+import static com.snowypeaksystems.mobactions.util.Messages.gm;
+
+import com.snowypeaksystems.mobactions.player.PlayerException;
+
+/**
+ * Thrown if the statistics could not be saved.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class StatsExportException extends PlayerException {
+  public StatsExportException() {
+    super(gm("stats-export-error"));
+  }
+}
@@ -10,7 +10,9 @@ import com.snowypeaksystems.mobactions.util.DebugLogger;
 import com.snowypeaksystems.mobactions.warp.IWarp;
 import com.snowypeaksystems.mobactions.warp.IWarpManager;
 import com.snowypeaksystems.mobactions.warp.WarpNotFoundException;
+import com.snowypeaksystems.mobactions.warp.WorldNotLoadedException;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 
 public class WarpCommand implements IWarpCommand {
   private final String warpName;
@@ -36,10 +38,17 @@ public class WarpCommand implements IWarpCommand {
     }
 
     IWarp warp = warpManager.getWarp(warpName);
+    Location destination = warp.getDestination();
+
+    if (destination == null) {
+      DebugLogger.getLogger().log("Warp world not loaded");
+      throw new WorldNotLoadedException(warpName);
+    }
+
     WarpCommandEvent event = new WarpCommandEvent(player, warp);
     Bukkit.getPluginManager().callEvent(event);
     if (!event.isCancelled()) {
-      player.teleport(warp.getDestination()).thenAccept(success -> {
+      player.teleport(destination).thenAccept(success -> {
         if (success) {
           player.sendMessage(gm("warp-success", warpName));
           DebugLogger.getLogger().log("Player warped");
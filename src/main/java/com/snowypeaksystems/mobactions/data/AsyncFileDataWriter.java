@@ -0,0 +1,155 @@
+package com.snowypeaksystems.mobactions.data;
+
+import com.snowypeaksystems.mobactions.util.Metrics;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * IFileDataWriter that writes on a single background thread. Only the latest request for each key
+ * is written, so repeated writes to the same data while a write is queued cost one write.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class AsyncFileDataWriter implements IFileDataWriter {
+  private static final Metrics.Timer SAVE_TIMER = Metrics.timer("persistence.save");
+  private static final Metrics.Timer DELETE_TIMER = Metrics.timer("persistence.delete");
+
+  private final ExecutorService executor;
+  private final Map<String, PendingWrite> pending;
+  private final Logger logger;
+
+  /** Creates a writer that reports failed writes to the provided logger. */
+  public AsyncFileDataWriter(Logger logger) {
+    this.logger = logger;
+    this.pending = new ConcurrentHashMap<>();
+    this.executor = Executors.newSingleThreadExecutor(r -> {
+      Thread thread = new Thread(r, "MobActions File Writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public CompletableFuture<Void> save(String key, FileData data) {
+    return submit(key, () -> {
+      long start = SAVE_TIMER.start();
+      try {
+        data.save();
+      } catch (IOException e) {
+        logger.log(Level.SEVERE, "Could not save " + key, e);
+        throw e;
+      } finally {
+        SAVE_TIMER.stop(start);
+      }
+    });
+  }
+
+  @Override
+  public void delete(String key, FileData data) {
+    submit(key, () -> {
+      long start = DELETE_TIMER.start();
+      try {
+        if (!data.delete()) {
+          logger.log(Level.FINE, "Nothing to delete for " + key);
+        }
+      } finally {
+        DELETE_TIMER.stop(start);
+      }
+    });
+  }
+
+  @Override
+  public void flush() {
+    if (executor.isShutdown()) {
+      return;
+    }
+
+    try {
+      // The executor runs tasks in order, so this finishes after every queued write
+      executor.submit(() -> {}).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      logger.log(Level.SEVERE, "Error flushing writes", e.getCause());
+    }
+  }
+
+  @Override
+  public void close() {
+    flush();
+    executor.shutdown();
+
+    try {
+      if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        logger.log(Level.WARNING, "Timed out waiting for writes to finish");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private CompletableFuture<Void> submit(String key, Write write) {
+    PendingWrite request = new PendingWrite(write);
+    if (executor.isShutdown()) {
+      request.run();
+      return request.done;
+    }
+
+    PendingWrite replaced = pending.put(key, request);
+    if (replaced == null) {
+      executor.execute(() -> {
+        PendingWrite latest = pending.remove(key);
+        if (latest != null) {
+          latest.run();
+        }
+      });
+    } else {
+      // The queued write will pick up this one instead, so it finishes when this one does
+      request.done.whenComplete((result, error) -> {
+        if (error == null) {
+          replaced.done.complete(result);
+        } else {
+          replaced.done.completeExceptionally(error);
+        }
+      });
+    }
+
+    return request.done;
+  }
+
+  /** A single write to storage. */
+  @FunctionalInterface
+  private interface Write {
+    void run() throws IOException;
+  }
+
+  /** A write and the future completed when it has run. */
+  private static final class PendingWrite {
+    private final Write write;
+    private final CompletableFuture<Void> done;
+
+    PendingWrite(Write write) {
+      this.write = write;
+      this.done = new CompletableFuture<>();
+    }
+
+    void run() {
+      try {
+        write.run();
+        done.complete(null);
+      } catch (IOException e) {
+        done.completeExceptionally(e);
+      } catch (RuntimeException e) {
+        done.completeExceptionally(e);
+        throw e;
+      }
+    }
+  }
+}
@@ -2,6 +2,9 @@ package com.snowypeaksystems.mobactions.data;
 
 import static com.snowypeaksystems.mobactions.util.Messages.gm;
 
+import com.snowypeaksystems.mobactions.util.Tokens;
+import java.util.ArrayList;
+import java.util.List;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -13,17 +16,21 @@ import org.bukkit.plugin.java.JavaPlugin;
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public class CommandData implements ConsoleCommandData {
+  private static final String TOKEN_STR = String.valueOf(new char[]{TOKEN_PREFIX, TOKEN_SUFFIX});
+
   private final String command;
   private final String description;
   private final Boolean isConsoleCommand;
-  private final String tokenStr = String.valueOf(new char[]{TOKEN_PREFIX, TOKEN_SUFFIX});
+  private final String[] segments;
+  private final int literalLength;
 
   /** Constructs CommandData from an entity. */
   public CommandData(LivingEntity entity, JavaPlugin plugin) throws IncompleteDataException {
     PersistentDataContainer container = entity.getPersistentDataContainer();
-    NamespacedKey commandKey = new NamespacedKey(plugin, COMMAND_KEY);
-    NamespacedKey descriptionKey = new NamespacedKey(plugin, COMMAND_DESCRIPTION_KEY);
-    NamespacedKey consoleKey = new NamespacedKey(plugin, CONSOLE_COMMAND_KEY);
+    DataKeys keys = DataKeys.of(plugin);
+    NamespacedKey commandKey = keys.getCommandKey();
+    NamespacedKey descriptionKey = keys.getCommandDescriptionKey();
+    NamespacedKey consoleKey = keys.getConsoleCommandKey();
 
     if (!container.has(commandKey, PersistentDataType.STRING)
         || !container.has(descriptionKey, PersistentDataType.STRING)) {
@@ -39,6 +46,8 @@ public class CommandData implements ConsoleCommandData {
     this.command = container.get(commandKey, PersistentDataType.STRING);
     this.description = container.get(descriptionKey, PersistentDataType.STRING);
     this.isConsoleCommand = consoleNum != null && consoleNum == 1;
+    this.segments = compile(command);
+    this.literalLength = getLength(segments);
   }
 
   /** Constructs a command given a command to execute. */
@@ -66,57 +75,78 @@ public class CommandData implements ConsoleCommandData {
     } else {
       this.description = "\"" + command + "\"";
     }
+
+    this.segments = compile(command);
+    this.literalLength = getLength(segments);
   }
 
   @Override
   public String getCommand(String name) {
+    StringBuilder newString = new StringBuilder(literalLength
+        + name.length() * (segments.length - 1));
+    newString.append(segments[0]);
+
+    for (int i = 1; i < segments.length; i++) {
+      newString.append(name).append(segments[i]);
+    }
+
+    return newString.toString();
+  }
+
+  /**
+   * Splits the command into the literal text around each unescaped token, so getCommand only has
+   * to join the literals with the name.
+   */
+  private static String[] compile(String command) {
+    List<String> literals = new ArrayList<>();
     int start = 0;
     int[] positions = new int[2];
-    StringBuilder newString = new StringBuilder();
 
     for (int i = 0, j = 0; i < command.length(); i++) {
-      if (command.charAt(i) == tokenStr.charAt(j) && (i == 0 || command.charAt(i - 1) != '\\'
-          || (i >= 2 && command.charAt(i - 2) == '\\'))) {
+      if (Tokens.isUnescaped(command, i, TOKEN_STR.charAt(j))) {
         positions[j] = i;
         j++;
       }
 
       if (j == positions.length) {
-        int end = positions[0];
-        if (positions[0] >= 2 && command.startsWith("\\\\", positions[0] - 2)) {
-          end = positions[0] - 1;
-        }
-        String segment = command.substring(start, end).replaceAll("(?<!\\\\)\\\\\\{", "{")
-            .replaceAll("(?<!\\\\)\\\\}", "}");
-        newString.append(segment).append(name);
+        int end = Tokens.getLiteralEnd(command, positions[0]);
+        literals.add(Tokens.unescape(command.substring(start, end)));
         start = i + 1;
         j = 0;
       }
     }
 
-    newString.append(command.substring(start).replaceAll("(?<!\\\\)\\\\\\{", "{")
-        .replaceAll("(?<!\\\\)\\\\}", "}"));
+    literals.add(Tokens.unescape(command.substring(start)));
 
-    return newString.toString();
+    return literals.toArray(new String[0]);
+  }
+
+  private static int getLength(String[] literals) {
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+
+    return length;
   }
 
   @Override
   public void store(LivingEntity entity, JavaPlugin plugin) {
-    entity.getPersistentDataContainer()
-        .set(new NamespacedKey(plugin, COMMAND_KEY), PersistentDataType.STRING, command);
-    entity.getPersistentDataContainer()
-        .set(new NamespacedKey(plugin, COMMAND_DESCRIPTION_KEY),
-            PersistentDataType.STRING, description);
-    entity.getPersistentDataContainer()
-        .set(new NamespacedKey(plugin, CONSOLE_COMMAND_KEY),
-            PersistentDataType.INTEGER, isConsoleCommand ? 1 : 0);
+    PersistentDataContainer container = entity.getPersistentDataContainer();
+    DataKeys keys = DataKeys.of(plugin);
+    container.set(keys.getCommandKey(), PersistentDataType.STRING, command);
+    container.set(keys.getCommandDescriptionKey(), PersistentDataType.STRING, description);
+    container.set(keys.getConsoleCommandKey(), PersistentDataType.INTEGER,
+        isConsoleCommand ? 1 : 0);
   }
 
   @Override
   public void purge(LivingEntity entity, JavaPlugin plugin) {
-    entity.getPersistentDataContainer().remove(new NamespacedKey(plugin, COMMAND_KEY));
-    entity.getPersistentDataContainer().remove(new NamespacedKey(plugin, COMMAND_DESCRIPTION_KEY));
-    entity.getPersistentDataContainer().remove(new NamespacedKey(plugin, CONSOLE_COMMAND_KEY));
+    PersistentDataContainer container = entity.getPersistentDataContainer();
+    DataKeys keys = DataKeys.of(plugin);
+    container.remove(keys.getCommandKey());
+    container.remove(keys.getCommandDescriptionKey());
+    container.remove(keys.getConsoleCommandKey());
   }
 
   @Override
@@ -0,0 +1,72 @@
+package com.snowypeaksystems.mobactions.data;
+
+import com.snowypeaksystems.mobactions.IInteractiveMob;
+import org.bukkit.NamespacedKey;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * The NamespacedKeys used to store MobData, created once per plugin instead of once per access.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class DataKeys {
+  private static volatile DataKeys instance;
+
+  private final Plugin plugin;
+  private final NamespacedKey dataKey;
+  private final NamespacedKey removeDefaultKey;
+  private final NamespacedKey commandKey;
+  private final NamespacedKey commandDescriptionKey;
+  private final NamespacedKey consoleCommandKey;
+  private final NamespacedKey warpKey;
+  private final NamespacedKey eventKey;
+
+  private DataKeys(Plugin plugin) {
+    this.plugin = plugin;
+    dataKey = new NamespacedKey(plugin, IInteractiveMob.DATA_KEY);
+    removeDefaultKey = new NamespacedKey(plugin, IInteractiveMob.REMOVE_DEFAULT_KEY);
+    commandKey = new NamespacedKey(plugin, ICommandData.COMMAND_KEY);
+    commandDescriptionKey = new NamespacedKey(plugin, ICommandData.COMMAND_DESCRIPTION_KEY);
+    consoleCommandKey = new NamespacedKey(plugin, ICommandData.CONSOLE_COMMAND_KEY);
+    warpKey = new NamespacedKey(plugin, IWarpData.WARP_KEY);
+    eventKey = new NamespacedKey(plugin, IEventData.EVENT_KEY);
+  }
+
+  /** Returns the keys for the provided plugin, creating them if they do not exist yet. */
+  public static DataKeys of(Plugin plugin) {
+    DataKeys keys = instance;
+    if (keys == null || keys.plugin != plugin) {
+      keys = new DataKeys(plugin);
+      instance = keys;
+    }
+
+    return keys;
+  }
+
+  public NamespacedKey getDataKey() {
+    return dataKey;
+  }
+
+  public NamespacedKey getRemoveDefaultKey() {
+    return removeDefaultKey;
+  }
+
+  public NamespacedKey getCommandKey() {
+    return commandKey;
+  }
+
+  public NamespacedKey getCommandDescriptionKey() {
+    return commandDescriptionKey;
+  }
+
+  public NamespacedKey getConsoleCommandKey() {
+    return consoleCommandKey;
+  }
+
+  public NamespacedKey getWarpKey() {
+    return warpKey;
+  }
+
+  public NamespacedKey getEventKey() {
+    return eventKey;
+  }
+}
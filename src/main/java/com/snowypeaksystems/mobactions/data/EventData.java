@@ -19,7 +19,7 @@ public class EventData implements IEventData {
   /** Create EventData from the supplied LivingEntity and plugin. */
   public EventData(LivingEntity entity, JavaPlugin plugin) throws IncompleteDataException {
     PersistentDataContainer container = entity.getPersistentDataContainer();
-    NamespacedKey eventKey = new NamespacedKey(plugin, EVENT_KEY);
+    NamespacedKey eventKey = DataKeys.of(plugin).getEventKey();
 
     if (!container.has(eventKey, PersistentDataType.STRING)) {
       throw new IncompleteDataException();
@@ -36,14 +36,14 @@ public class EventData implements IEventData {
   @Override
   public void store(LivingEntity entity, JavaPlugin plugin) {
     PersistentDataContainer container = entity.getPersistentDataContainer();
-    NamespacedKey eventKey = new NamespacedKey(plugin, EVENT_KEY);
+    NamespacedKey eventKey = DataKeys.of(plugin).getEventKey();
     container.set(eventKey, PersistentDataType.STRING, name);
   }
 
   @Override
   public void purge(LivingEntity entity, JavaPlugin plugin) {
     PersistentDataContainer container = entity.getPersistentDataContainer();
-    NamespacedKey eventKey = new NamespacedKey(plugin, EVENT_KEY);
+    NamespacedKey eventKey = DataKeys.of(plugin).getEventKey();
     container.remove(eventKey);
   }
 
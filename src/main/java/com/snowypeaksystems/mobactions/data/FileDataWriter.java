@@ -0,0 +1,45 @@
+package com.snowypeaksystems.mobactions.data;
+
+import com.snowypeaksystems.mobactions.util.Metrics;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * IFileDataWriter that writes immediately on the calling thread.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class FileDataWriter implements IFileDataWriter {
+  private static final Metrics.Timer SAVE_TIMER = Metrics.timer("persistence.save");
+  private static final Metrics.Timer DELETE_TIMER = Metrics.timer("persistence.delete");
+
+  @Override
+  public CompletableFuture<Void> save(String key, FileData data) {
+    long start = SAVE_TIMER.start();
+    try {
+      data.save();
+      return CompletableFuture.completedFuture(null);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    } finally {
+      SAVE_TIMER.stop(start);
+    }
+  }
+
+  @Override
+  public void delete(String key, FileData data) {
+    long start = DELETE_TIMER.start();
+    try {
+      data.delete();
+    } finally {
+      DELETE_TIMER.stop(start);
+    }
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @Override
+  public void close() {
+  }
+}
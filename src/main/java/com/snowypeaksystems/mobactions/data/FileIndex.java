@@ -0,0 +1,182 @@
+package com.snowypeaksystems.mobactions.data;
+
+import com.snowypeaksystems.mobactions.util.AtomicFile;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Index stored alongside FileData that maps each alias to the file it is saved in. File names
+ * start from the hash of the alias, and a suffix is added when two aliases share a hash, so no
+ * alias can overwrite the file of another. The index is deleted when it becomes empty.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class FileIndex {
+  public static final String INDEX_FILE = ".index";
+
+  private final File dir;
+  private final File indexFile;
+  private final Map<String, String> files;
+  private final Map<String, String> aliases;
+
+  /** Creates an index of the files in dir, loading the existing index file if there is one. */
+  public FileIndex(File dir) {
+    this.dir = dir;
+    this.indexFile = new File(dir, INDEX_FILE);
+    this.files = new HashMap<>();
+    this.aliases = new HashMap<>();
+    load();
+  }
+
+  public File getDirectory() {
+    return dir;
+  }
+
+  /** Returns true if the index was loaded from or saved to disk. */
+  public synchronized boolean exists() {
+    return indexFile.exists();
+  }
+
+  /** Reads the index file again, discarding any unsaved assignments. */
+  public synchronized void load() {
+    files.clear();
+    aliases.clear();
+
+    if (indexFile.exists()) {
+      YamlConfiguration config = YamlConfiguration.loadConfiguration(indexFile);
+      for (String fileName : config.getKeys(false)) {
+        String alias = config.getString(fileName);
+        if (alias != null) {
+          assign(alias.toLowerCase(), fileName);
+        }
+      }
+    }
+  }
+
+  /** Returns the file assigned to the alias, or null if there is none. */
+  public synchronized File get(String alias) {
+    String fileName = files.get(alias.toLowerCase());
+    return fileName == null ? null : new File(dir, fileName);
+  }
+
+  /** Returns the alias assigned to each file. */
+  public synchronized Map<File, String> getFiles() {
+    Map<File, String> entries = new LinkedHashMap<>();
+    for (Map.Entry<String, String> entry : aliases.entrySet()) {
+      entries.put(new File(dir, entry.getKey()), entry.getValue());
+    }
+
+    return entries;
+  }
+
+  /**
+   * Returns the file assigned to the alias, choosing a file that belongs to no other alias if
+   * there is none. The assignment is only saved to the index by put.
+   */
+  public synchronized File allocate(String alias) {
+    String key = alias.toLowerCase();
+    String fileName = files.get(key);
+
+    if (fileName == null) {
+      String base = String.valueOf(key.hashCode());
+      fileName = base;
+
+      for (int i = 1; aliases.containsKey(fileName) || new File(dir, fileName).exists(); i++) {
+        fileName = base + "-" + i;
+      }
+
+      assign(key, fileName);
+    }
+
+    return new File(dir, fileName);
+  }
+
+  /** Assigns the file to the alias and saves the index if it changed. */
+  public synchronized void put(String alias, File file) throws IOException {
+    String key = alias.toLowerCase();
+    if (!file.getName().equals(files.get(key)) || !indexFile.exists()) {
+      assign(key, file.getName());
+      save();
+    }
+  }
+
+  /**
+   * Adds every file in the folder that has a name but no entry in the index, and saves the index
+   * if any were added. This finds files that were written but never indexed, such as when the
+   * server stopped in between, and rebuilds the index of a folder saved without one.
+   */
+  public synchronized void addUnindexed() throws IOException {
+    File[] listed = dir.listFiles();
+    if (listed == null) {
+      return;
+    }
+
+    boolean added = false;
+    for (File f : listed) {
+      if (f.getName().startsWith(".") || f.isDirectory() || aliases.containsKey(f.getName())) {
+        continue;
+      }
+
+      String alias = YamlConfiguration.loadConfiguration(f).getString("name");
+      // An alias that is already indexed keeps its file
+      if (alias != null && !files.containsKey(alias.toLowerCase())) {
+        assign(alias.toLowerCase(), f.getName());
+        added = true;
+      }
+    }
+
+    if (added) {
+      save();
+    }
+  }
+
+  /** Assigns each file to its alias and saves the index once. */
+  public synchronized void putAll(Map<File, String> entries) throws IOException {
+    for (Map.Entry<File, String> entry : entries.entrySet()) {
+      assign(entry.getValue().toLowerCase(), entry.getKey().getName());
+    }
+
+    save();
+  }
+
+  /** Removes the alias from the index if it is assigned to file and saves the index. */
+  public synchronized void remove(String alias, File file) throws IOException {
+    String key = alias.toLowerCase();
+    if (files.remove(key, file.getName())) {
+      aliases.remove(file.getName());
+      save();
+    }
+  }
+
+  private void assign(String alias, String fileName) {
+    String previous = files.put(alias, fileName);
+    if (previous != null) {
+      aliases.remove(previous);
+    }
+
+    String owner = aliases.put(fileName, alias);
+    if (owner != null && !owner.equals(alias)) {
+      files.remove(owner);
+    }
+  }
+
+  private void save() throws IOException {
+    if (aliases.isEmpty()) {
+      if (indexFile.exists() && !indexFile.delete()) {
+        throw new IOException("Could not delete " + indexFile.getPath());
+      }
+
+      return;
+    }
+
+    YamlConfiguration config = new YamlConfiguration();
+    for (Map.Entry<String, String> entry : aliases.entrySet()) {
+      config.set(entry.getKey(), entry.getValue());
+    }
+
+    AtomicFile.write(indexFile, config.saveToString());
+  }
+}
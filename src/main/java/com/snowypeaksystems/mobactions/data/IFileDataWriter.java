@@ -0,0 +1,24 @@
+package com.snowypeaksystems.mobactions.data;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes FileData to storage on behalf of a collection of FileData.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public interface IFileDataWriter {
+  /**
+   * Saves the data stored under key. The returned future completes once the data is written, or
+   * exceptionally with the IOException if it could not be.
+   */
+  CompletableFuture<Void> save(String key, FileData data);
+
+  /** Deletes the data stored under key. */
+  void delete(String key, FileData data);
+
+  /** Blocks until all previously requested writes have completed. */
+  void flush();
+
+  /** Flushes pending writes and releases any resources held by the writer. */
+  void close();
+}
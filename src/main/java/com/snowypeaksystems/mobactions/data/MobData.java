@@ -23,8 +23,15 @@ public interface MobData {
   /** Returns the String to be used as instructions for this data. */
   String getNametagString();
 
+  /** Use DECODER_MAP instead, which does not require reflection. */
+  @Deprecated
   Map<String, Class<? extends MobData>> DATA_KEY_MAP = Map.ofEntries(
       entry(ICommandData.COMMAND_KEY, CommandData.class),
       entry(IWarpData.WARP_KEY, WarpData.class),
       entry(IEventData.EVENT_KEY, EventData.class));
+
+  Map<String, MobDataDecoder> DECODER_MAP = Map.ofEntries(
+      entry(ICommandData.COMMAND_KEY, CommandData::new),
+      entry(IWarpData.WARP_KEY, WarpData::new),
+      entry(IEventData.EVENT_KEY, EventData::new));
 }
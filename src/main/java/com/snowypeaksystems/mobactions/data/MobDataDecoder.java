@@ -0,0 +1,14 @@
+package com.snowypeaksystems.mobactions.data;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Creates MobData from the data stored on an entity.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+@FunctionalInterface
+public interface MobDataDecoder {
+  /** Returns the MobData stored on the entity. */
+  MobData decode(LivingEntity entity, JavaPlugin plugin) throws IncompleteDataException;
+}
@@ -18,7 +18,7 @@ public class WarpData implements IWarpData {
   /** Create WarpData from a current entity. */
   public WarpData(LivingEntity entity, JavaPlugin plugin) throws IncompleteDataException {
     PersistentDataContainer container = entity.getPersistentDataContainer();
-    NamespacedKey warpKey = new NamespacedKey(plugin, WARP_KEY);
+    NamespacedKey warpKey = DataKeys.of(plugin).getWarpKey();
 
     if (!container.has(warpKey, PersistentDataType.STRING)) {
       throw new IncompleteDataException();
@@ -34,12 +34,12 @@ public class WarpData implements IWarpData {
   @Override
   public void store(LivingEntity entity, JavaPlugin plugin) {
     entity.getPersistentDataContainer()
-        .set(new NamespacedKey(plugin, WARP_KEY), PersistentDataType.STRING, name);
+        .set(DataKeys.of(plugin).getWarpKey(), PersistentDataType.STRING, name);
   }
 
   @Override
   public void purge(LivingEntity entity, JavaPlugin plugin) {
-    entity.getPersistentDataContainer().remove(new NamespacedKey(plugin, WARP_KEY));
+    entity.getPersistentDataContainer().remove(DataKeys.of(plugin).getWarpKey());
   }
 
   @Override
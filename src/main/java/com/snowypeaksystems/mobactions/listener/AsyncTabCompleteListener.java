@@ -0,0 +1,70 @@
+package com.snowypeaksystems.mobactions.listener;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Serves tab completions for the plugin's command off the main thread on Paper servers. Only
+ * register on Paper, since the event does not exist elsewhere.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class AsyncTabCompleteListener implements Listener {
+  private final TabCompleter completer;
+  private final PluginCommand command;
+  private final Set<String> labels;
+
+  /** Creates a listener that completes command with completer, which must be thread safe. */
+  public AsyncTabCompleteListener(TabCompleter completer, PluginCommand command) {
+    this.completer = completer;
+    this.command = command;
+    this.labels = new HashSet<>();
+
+    String namespace = command.getPlugin().getName().toLowerCase() + ":";
+    addLabel(command.getName(), namespace);
+    for (String alias : command.getAliases()) {
+      addLabel(alias, namespace);
+    }
+  }
+
+  /** Completes the plugin's command, which stops the server completing it on the main thread. */
+  @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+  public void onAsyncTabComplete(AsyncTabCompleteEvent event) {
+    if (event.isHandled() || !event.isCommand()) {
+      return;
+    }
+
+    String buffer = event.getBuffer();
+    int start = buffer.startsWith("/") ? 1 : 0;
+    int end = buffer.indexOf(' ', start);
+
+    // The command name itself is completed by the server
+    if (end < 0) {
+      return;
+    }
+
+    String label = buffer.substring(start, end);
+    if (!labels.contains(label.toLowerCase())) {
+      return;
+    }
+
+    String[] args = buffer.substring(end + 1).split(" ", -1);
+    List<String> completions = completer.onTabComplete(event.getSender(), command, label, args);
+
+    if (completions != null) {
+      event.setCompletions(completions);
+      event.setHandled(true);
+    }
+  }
+
+  private void addLabel(String label, String namespace) {
+    labels.add(label.toLowerCase());
+    labels.add(namespace + label.toLowerCase());
+  }
+}
@@ -18,6 +18,7 @@ import com.snowypeaksystems.mobactions.command.PlayerCommand;
 import com.snowypeaksystems.mobactions.command.ReloadCommand;
 import com.snowypeaksystems.mobactions.command.RemoveCommand;
 import com.snowypeaksystems.mobactions.command.SetWarpCommand;
+import com.snowypeaksystems.mobactions.command.StatsCommand;
 import com.snowypeaksystems.mobactions.command.WarpCommand;
 import com.snowypeaksystems.mobactions.data.CommandData;
 import com.snowypeaksystems.mobactions.data.EventData;
@@ -31,17 +32,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Predicate;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.util.StringUtil;
 
 /**
  * Handles all command related information for the plugin.
+ * Tab completion also runs off the main thread on Paper, so it must only read thread safe state.
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public class CommandListener implements ICommandListener {
   private static final int pageItemCount = 8;
+  private static final int completionLimit = 100;
   private final AMobActions ma;
   private final String[] help = {
       gm("help-command-action"),
@@ -63,11 +66,12 @@ public class CommandListener implements ICommandListener {
       gm("help-warps-list"),
       gm("help-warps-set"),
       gm("help-warps-remove"),
-      gm("help-reload")
+      gm("help-reload"),
+      gm("help-stats")
   };
   private final String[] subcommands = {
       gm("command-events"), gm("command-help"), gm("command-action"),
-      gm("command-reload"), gm("command-warp"), gm("command-warps")
+      gm("command-reload"), gm("command-stats"), gm("command-warp"), gm("command-warps")
   };
   private final String[] createCommands = {
       gm("command-command"), gm("command-consolecmd"), gm("command-event"),
@@ -83,6 +87,9 @@ public class CommandListener implements ICommandListener {
   private final String[] mobCommands = {
       gm("command-cancel"), gm("command-create"), gm("command-remove")
   };
+  private final String[] statsCommands = {
+      gm("command-export")
+  };
   private final String[] warpCommands = {
       gm("command-set"), gm("command-remove")
   };
@@ -98,92 +105,65 @@ public class CommandListener implements ICommandListener {
     List<String> completions = new ArrayList<>();
     if (command.getName().equalsIgnoreCase("mac")) {
       if (args.length == 1) {
-        StringUtil.copyPartialMatches(args[0], Arrays.asList(subcommands), completions);
+        completeSubcommands(args[0], subcommands, completions);
 
       } else if (args.length == 2) {
         if (args[0].equalsIgnoreCase("events")) {
-          StringUtil.copyPartialMatches(args[1], Arrays.asList(eventCommands), completions);
+          completeSubcommands(args[1], eventCommands, completions);
 
         } else if (args[0].equalsIgnoreCase("action")) {
-          StringUtil.copyPartialMatches(args[1], Arrays.asList(mobCommands), completions);
+          completeSubcommands(args[1], mobCommands, completions);
 
         } else if (args[0].equalsIgnoreCase("warps")) {
-          StringUtil.copyPartialMatches(args[1], Arrays.asList(warpCommands), completions);
+          completeSubcommands(args[1], warpCommands, completions);
+
+        } else if (args[0].equalsIgnoreCase("stats") && user.canViewStats()) {
+          completeSubcommands(args[1], statsCommands, completions);
 
         } else if (args[0].equalsIgnoreCase("warp")) {
           if (user.canUseWarpCommand()) {
-            Set<String> warps = ma.getWarpManager().getLoadedWarpNames();
-            warps.removeIf(warp -> !user.canUseWarp(warp));
-            StringUtil.copyPartialMatches(args[1], new ArrayList<>(warps), completions);
+            completions.addAll(ma.getWarpManager().completeWarpNames(
+                args[1], completionLimit, user::canUseWarp));
           }
         }
 
       } else if (args.length == 3) {
         if (args[0].equalsIgnoreCase("action")
             && args[1].equalsIgnoreCase("create") && user.canCreate()) {
-          StringUtil.copyPartialMatches(args[2], Arrays.asList(createCommands), completions);
+          completeSubcommands(args[2], createCommands, completions);
 
         } else if (args[0].equalsIgnoreCase("events")) {
           if (args[1].equalsIgnoreCase("cancel") && user.canCancelEvents()) {
-            Set<IMobEvent> events = ma.getMobEventManager().getLoadedEvents();
-            ArrayList<String> names = new ArrayList<>();
-
-            for (IMobEvent event : events) {
-              if (event.getState() != IMobEvent.State.CLOSED) {
-                names.add(event.getAlias().toLowerCase());
-              }
-            }
-
-            StringUtil.copyPartialMatches(args[2], names, completions);
+            completions.addAll(completeEventNames(args[2],
+                event -> event.getState() != IMobEvent.State.CLOSED));
 
           } else if (args[1].equalsIgnoreCase("forcestart") && user.canStartEvents()) {
-            Set<IMobEvent> events = ma.getMobEventManager().getLoadedEvents();
-            ArrayList<String> names = new ArrayList<>();
-
-            for (IMobEvent event : events) {
-              if (event.getState() == IMobEvent.State.OPEN) {
-                names.add(event.getAlias().toLowerCase());
-              }
-            }
-
-            StringUtil.copyPartialMatches(args[2], names, completions);
+            completions.addAll(completeEventNames(args[2],
+                event -> event.getState() == IMobEvent.State.OPEN));
 
           } else if (args[1].equalsIgnoreCase("open") && user.canStartEvents()) {
-            Set<IMobEvent> events = ma.getMobEventManager().getLoadedEvents();
-            ArrayList<String> names = new ArrayList<>();
-
-            for (IMobEvent event : events) {
-              if (event.getState() == IMobEvent.State.CLOSED) {
-                names.add(event.getAlias().toLowerCase());
-              }
-            }
-
-            StringUtil.copyPartialMatches(args[2], names, completions);
+            completions.addAll(completeEventNames(args[2],
+                event -> event.getState() == IMobEvent.State.CLOSED));
 
           } else if (args[1].equalsIgnoreCase("remove") && user.canRemoveEvents()) {
-            Set<String> events = ma.getMobEventManager().getLoadedEventNames();
-            StringUtil.copyPartialMatches(args[2], new ArrayList<>(events), completions);
+            completions.addAll(completeEventNames(args[2], event -> true));
 
           } else if (args[1].equalsIgnoreCase("info") && user.canGetEventInfo()) {
-            Set<String> events = ma.getMobEventManager().getLoadedEventNames();
-            StringUtil.copyPartialMatches(args[2], new ArrayList<>(events), completions);
+            completions.addAll(completeEventNames(args[2], event -> true));
           }
 
         } else if (args[0].equalsIgnoreCase("warps")
             && args[1].equalsIgnoreCase("remove") && user.canRemoveWarp()) {
-          Set<String> warps = ma.getWarpManager().getLoadedWarpNames();
-          StringUtil.copyPartialMatches(args[2], new ArrayList<>(warps), completions);
+          completions.addAll(completeWarpNames(args[2]));
         }
       } else if (args.length == 4) {
         if (args[0].equalsIgnoreCase("action")
             && args[1].equalsIgnoreCase("create") && user.canCreate()) {
           if (args[2].equalsIgnoreCase("event")) {
-            Set<String> events = ma.getMobEventManager().getLoadedEventNames();
-            StringUtil.copyPartialMatches(args[3], new ArrayList<>(events), completions);
+            completions.addAll(completeEventNames(args[3], event -> true));
 
           } else if (args[2].equalsIgnoreCase("warp")) {
-            Set<String> warps = ma.getWarpManager().getLoadedWarpNames();
-            StringUtil.copyPartialMatches(args[3], new ArrayList<>(warps), completions);
+            completions.addAll(completeWarpNames(args[3]));
           }
 
         }
@@ -199,21 +179,30 @@ public class CommandListener implements ICommandListener {
           }
 
           if (args.length == 5 + typeIndexOffset) {
-            StringUtil.copyPartialMatches(args[4 + typeIndexOffset], Arrays.asList(eventTypes),
-                completions);
+            completeSubcommands(args[4 + typeIndexOffset], eventTypes, completions);
           } else if (args.length == 6 + typeIndexOffset
               && args[4 + typeIndexOffset].equalsIgnoreCase("warp")) {
-            Set<String> warps = ma.getWarpManager().getLoadedWarpNames();
-            StringUtil.copyPartialMatches(args[5 + typeIndexOffset], new ArrayList<>(warps),
-                completions);
+            completions.addAll(completeWarpNames(args[5 + typeIndexOffset]));
           }
         }
       }
     }
 
+    return completions;
+  }
+
+  /** Adds the subcommands starting with prefix, sorted. Index-backed completions already are. */
+  private void completeSubcommands(String prefix, String[] subcommands, List<String> completions) {
+    StringUtil.copyPartialMatches(prefix, Arrays.asList(subcommands), completions);
     Collections.sort(completions);
+  }
 
-    return completions;
+  private List<String> completeWarpNames(String prefix) {
+    return ma.getWarpManager().completeWarpNames(prefix, completionLimit, name -> true);
+  }
+
+  private List<String> completeEventNames(String prefix, Predicate<IMobEvent> filter) {
+    return ma.getMobEventManager().completeEventNames(prefix, completionLimit, filter);
   }
 
   @Override
@@ -222,7 +211,7 @@ public class CommandListener implements ICommandListener {
     DebugLogger.getLogger().log("Processing command");
     if (command.getName().equalsIgnoreCase("mac")) {
       int page = 0;
-      DebugLogger.getLogger().log("Arguments: " + Arrays.toString(args));
+      DebugLogger.getLogger().log(() -> "Arguments: " + Arrays.toString(args));
       MobActionsUser user = ma.getPlayer(sender);
       PlayerCommand cmd = null;
 
@@ -268,7 +257,7 @@ public class CommandListener implements ICommandListener {
         String[] sublist = Arrays.asList(args).subList(3, args.length).toArray(new String[]{});
         List<String> strArgs = parseForStrings(sublist);
 
-        DebugLogger.getLogger().log("String arguments: " + strArgs.toString());
+        DebugLogger.getLogger().log(() -> "String arguments: " + strArgs.toString());
         if (strArgs.size() == 2) {
           cmd = new CreateCommand(new CommandData(strArgs.get(0), strArgs.get(1),
               args[2].equalsIgnoreCase("consolecmd")));
@@ -323,6 +312,11 @@ public class CommandListener implements ICommandListener {
         cmd = new ListWarpsCommand(ma.getWarpManager());
       } else if (args.length == 1 && args[0].equalsIgnoreCase("reload")) {
         cmd = new ReloadCommand(ma);
+      } else if (args.length == 1 && args[0].equalsIgnoreCase("stats")) {
+        cmd = new StatsCommand(ma, false);
+      } else if (args.length == 2 && args[0].equalsIgnoreCase("stats")
+          && args[1].equalsIgnoreCase("export")) {
+        cmd = new StatsCommand(ma, true);
       }
 
       if (cmd != null) {
@@ -330,7 +324,7 @@ public class CommandListener implements ICommandListener {
         try {
           cmd.run(user);
         } catch (PlayerException e) {
-          DebugLogger.getLogger().log("Error: " + e.getPlayerFormattedString());
+          DebugLogger.getLogger().log(() -> "Error: " + e.getPlayerFormattedString());
           user.sendMessage(e.getPlayerFormattedString());
         }
       } else {
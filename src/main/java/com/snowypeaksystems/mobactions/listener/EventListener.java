@@ -2,6 +2,7 @@ package com.snowypeaksystems.mobactions.listener;
 
 import com.snowypeaksystems.mobactions.AMobActions;
 import com.snowypeaksystems.mobactions.IInteractiveMob;
+import com.snowypeaksystems.mobactions.InteractiveMobIndex;
 import com.snowypeaksystems.mobactions.actions.CommandAction;
 import com.snowypeaksystems.mobactions.actions.CreateAction;
 import com.snowypeaksystems.mobactions.actions.EventMobJoinAction;
@@ -15,8 +16,9 @@ import com.snowypeaksystems.mobactions.data.IncompleteDataException;
 import com.snowypeaksystems.mobactions.player.IStatus;
 import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import com.snowypeaksystems.mobactions.player.PlayerException;
+import com.snowypeaksystems.mobactions.player.UserRegistry;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
-import java.util.Map;
+import com.snowypeaksystems.mobactions.util.Metrics;
 import java.util.logging.Level;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Entity;
@@ -27,8 +29,12 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 
@@ -37,17 +43,45 @@ import org.bukkit.inventory.EquipmentSlot;
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public class EventListener implements IEventListener {
+  private static final Metrics.Timer INTERACT_TIMER = Metrics.timer("listener.interact");
+  private static final Metrics.Timer DAMAGE_TIMER = Metrics.timer("listener.damage");
+  private static final ClassValue<Metrics.Timer> ACTION_TIMERS = new ClassValue<>() {
+    @Override
+    protected Metrics.Timer computeValue(Class<?> type) {
+      return Metrics.timer("action." + type.getSimpleName());
+    }
+  };
   private final AMobActions ma;
-  private final Map<Player, MobActionsUser> players;
+  private final UserRegistry users;
 
-  public EventListener(AMobActions ma, Map<Player, MobActionsUser> players) {
+  public EventListener(AMobActions ma, UserRegistry users) {
     this.ma = ma;
-    this.players = players;
+    this.users = users;
   }
 
   @Override
   @EventHandler(priority = EventPriority.HIGH)
   public void onMobInteract(PlayerInteractEntityEvent event) {
+    long start = INTERACT_TIMER.start();
+    try {
+      handleMobInteract(event);
+    } finally {
+      INTERACT_TIMER.stop(start);
+    }
+  }
+
+  @Override
+  @EventHandler(priority = EventPriority.HIGH)
+  public void onMobDamage(EntityDamageEvent event) {
+    long start = DAMAGE_TIMER.start();
+    try {
+      handleMobDamage(event);
+    } finally {
+      DAMAGE_TIMER.stop(start);
+    }
+  }
+
+  private void handleMobInteract(PlayerInteractEntityEvent event) {
     DebugLogger.getLogger().log("Mob interaction event");
     if (event.getHand().equals(EquipmentSlot.OFF_HAND)
         || !(event.getRightClicked() instanceof LivingEntity)
@@ -57,6 +91,8 @@ public class EventListener implements IEventListener {
 
 
     MobActionsUser user = ma.getPlayer(event.getPlayer());
+    // Mobs keep their AI, so keep the index's chunk current for the mobs players use
+    ma.getInteractiveMobIndex().update(event.getRightClicked());
     try {
       IInteractiveMob mob = ma.getInteractiveMob((LivingEntity) event.getRightClicked());
       processEvent(user, mob, event);
@@ -66,41 +102,46 @@ public class EventListener implements IEventListener {
     }
   }
 
-  @Override
-  @EventHandler(priority = EventPriority.HIGH)
-  public void onMobDamage(EntityDamageEvent event) {
+  private void handleMobDamage(EntityDamageEvent event) {
     if (!(event.getEntity() instanceof LivingEntity)) {
       return;
     }
 
+    Entity damager = null;
+    if (event instanceof EntityDamageByEntityEvent) {
+      damager = ((EntityDamageByEntityEvent) event).getDamager();
+    }
+
+    InteractiveMobIndex index = ma.getInteractiveMobIndex();
+
     try {
-      if (!(event.getEntity() instanceof Player) && event instanceof EntityDamageByEntityEvent
-          && ((EntityDamageByEntityEvent) event).getDamager() instanceof Player) {
-        MobActionsUser user = ma.getPlayer(
-            (Player) ((EntityDamageByEntityEvent) event).getDamager());
+      if (!(event.getEntity() instanceof Player) && damager instanceof Player) {
+        MobActionsUser user = ma.getPlayer((Player) damager);
+
+        // Players that are creating or removing mobs can hit any entity
+        if (user.getStatus().getMode() == IStatus.Mode.NONE && !index.contains(event.getEntity())) {
+          return;
+        }
+
+        index.update(event.getEntity());
         IInteractiveMob mob = ma.getInteractiveMob((LivingEntity) event.getEntity());
         processEvent(user, mob, event);
 
-      } else if (event.getEntity() instanceof Player && event instanceof EntityDamageByEntityEvent
-          && (((EntityDamageByEntityEvent) event).getDamager()) instanceof LivingEntity
-          && !((((EntityDamageByEntityEvent) event).getDamager()) instanceof Player)
-          && ma.getInteractiveMob(
-              (LivingEntity) ((EntityDamageByEntityEvent) event).getDamager()).exists()) {
+      } else if (event.getEntity() instanceof Player && damager instanceof LivingEntity
+          && !(damager instanceof Player) && index.contains(damager)
+          && ma.getInteractiveMob((LivingEntity) damager).exists()) {
         event.setCancelled(true);
 
-      } else if (!(event.getEntity() instanceof Player)
+      } else if (!(event.getEntity() instanceof Player) && index.contains(event.getEntity())
           && ma.getInteractiveMob((LivingEntity) event.getEntity()).exists()) {
         event.setCancelled(true);
       }
-      
+
     } catch (IncompleteDataException e) {
       Bukkit.getLogger().log(Level.WARNING, "Error creating mob object", e);
 
-      if (event instanceof EntityDamageByEntityEvent) {
-        Entity entity = ((EntityDamageByEntityEvent) event).getDamager();
-        if (entity instanceof Player) {
-          ma.getPlayer((Player) entity).sendMessage(e.getPlayerFormattedString());
-        }
+      if (damager instanceof Player) {
+        ma.getPlayer((Player) damager).sendMessage(e.getPlayerFormattedString());
       }
     }
   }
@@ -108,14 +149,47 @@ public class EventListener implements IEventListener {
   @Override
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void onWorldLoad(WorldLoadEvent event) {
-    ma.getWarpManager().reload();
+    ma.getWarpManager().loadWorld(event.getWorld().getName());
+    ma.getInteractiveMobIndex().scan(event.getWorld());
+  }
+
+  @Override
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onChunkLoad(ChunkLoadEvent event) {
+    ma.getInteractiveMobIndex().scan(event.getChunk());
+  }
+
+  @Override
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onChunkUnload(ChunkUnloadEvent event) {
+    for (Entity entity : event.getChunk().getEntities()) {
+      ma.getInteractiveMobCache().invalidate(entity);
+    }
+
+    ma.getInteractiveMobIndex().unload(event.getChunk());
+  }
+
+  @Override
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onMobDeath(EntityDeathEvent event) {
+    ma.getInteractiveMobCache().invalidate(event.getEntity());
+    ma.getInteractiveMobIndex().remove(event.getEntity());
   }
 
   @Override
   @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
   public void onPlayerLogout(PlayerQuitEvent event) {
-    players.remove(event.getPlayer());
-    ma.getMobEventManager().removeFromAll(ma.getPlayer(event.getPlayer()));
+    MobActionsUser user = users.remove(event.getPlayer());
+
+    if (user != null) {
+      ma.getMobEventManager().removeFromAll(user);
+    }
+  }
+
+  @Override
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+    users.invalidatePermissions(event.getPlayer());
   }
 
   private void processEvent(MobActionsUser player, IInteractiveMob mob, Cancellable event) {
@@ -129,15 +203,20 @@ public class EventListener implements IEventListener {
     } else if (mob.getData() instanceof IEventData) {
       action = new EventMobJoinAction(mob, (IEventData) mob.getData(), ma.getMobEventManager());
     } else if (mob.getData() instanceof IWarpData) {
-      action = new WarpAction(mob, (IWarpData) mob.getData(), ma.getWarpManager());
+      action = new WarpAction(mob, (IWarpData) mob.getData(), ma.getWarpManager(),
+          ma.getScheduler());
     }
 
     if (action != null) {
+      Metrics.Timer timer = ACTION_TIMERS.get(action.getClass());
+      long start = timer.start();
       try {
         action.run(player);
       } catch (PlayerException e) {
         player.sendMessage(e.getPlayerFormattedString());
-        DebugLogger.getLogger().log("Error: " + e.getPlayerFormattedString());
+        DebugLogger.getLogger().log(() -> "Error: " + e.getPlayerFormattedString());
+      } finally {
+        timer.stop(start);
       }
       event.setCancelled(true);
       DebugLogger.getLogger().log("Cancelled event");
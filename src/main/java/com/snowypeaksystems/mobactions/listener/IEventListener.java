@@ -2,8 +2,12 @@ package com.snowypeaksystems.mobactions.listener;
 
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 
 /**
@@ -20,6 +24,18 @@ public interface IEventListener extends Listener {
   /** Reloads the config to make sure we have all possible warps loaded. */
   void onWorldLoad(WorldLoadEvent event);
 
+  /** Adds the MobActions mobs in the chunk to the mob index. */
+  void onChunkLoad(ChunkLoadEvent event);
+
+  /** Drops indexed and cached mobs in the chunk, since their entity objects are no longer valid. */
+  void onChunkUnload(ChunkUnloadEvent event);
+
+  /** Drops the indexed and cached mob when it dies. */
+  void onMobDeath(EntityDeathEvent event);
+
   /** Removes the player from the player list upon logout (mostly to conserve memory). */
   void onPlayerLogout(PlayerQuitEvent event);
+
+  /** Forgets the player's cached permissions, since they may depend on the world. */
+  void onPlayerChangedWorld(PlayerChangedWorldEvent event);
 }
@@ -55,7 +55,8 @@ public interface IMobEvent extends AliasedData, FileData {
 
   /**
    * Stops any running timeout period or countdown and prevents players from joining without the
-   * event action triggering. Clears the list of all joined players.
+   * event action triggering. Clears the list of all joined players, and stops players that are
+   * still waiting to be started from being started.
    */
   void cancel();
 
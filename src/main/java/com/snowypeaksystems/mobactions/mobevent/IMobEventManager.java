@@ -3,7 +3,9 @@ package com.snowypeaksystems.mobactions.mobevent;
 import com.snowypeaksystems.mobactions.data.MobData;
 import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import java.io.IOException;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Objects to store and manage IMobEvents.
@@ -31,6 +33,12 @@ public interface IMobEventManager {
   /** Returns a set of event names. */
   Set<String> getLoadedEventNames();
 
+  /**
+   * Returns up to limit sorted event names that start with prefix and whose events pass filter,
+   * without looking at events that do not start with prefix.
+   */
+  List<String> completeEventNames(String prefix, int limit, Predicate<IMobEvent> filter);
+
   /** Returns a set of loaded events. */
   Set<IMobEvent> getLoadedEvents();
 }
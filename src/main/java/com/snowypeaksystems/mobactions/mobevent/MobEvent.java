@@ -6,6 +6,7 @@ import com.snowypeaksystems.mobactions.AMobActions;
 import com.snowypeaksystems.mobactions.actions.EventMobStartAction;
 import com.snowypeaksystems.mobactions.actions.IEventMobStartAction;
 import com.snowypeaksystems.mobactions.data.CommandData;
+import com.snowypeaksystems.mobactions.data.FileIndex;
 import com.snowypeaksystems.mobactions.data.ICommandData;
 import com.snowypeaksystems.mobactions.data.IWarpData;
 import com.snowypeaksystems.mobactions.data.MobData;
@@ -13,29 +14,71 @@ import com.snowypeaksystems.mobactions.data.WarpData;
 import com.snowypeaksystems.mobactions.event.MobEventStartEvent;
 import com.snowypeaksystems.mobactions.player.MobActionsUser;
 import com.snowypeaksystems.mobactions.player.PlayerException;
+import com.snowypeaksystems.mobactions.util.AtomicFile;
 import com.snowypeaksystems.mobactions.util.DebugLogger;
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
+import com.snowypeaksystems.mobactions.util.Messages;
+import com.snowypeaksystems.mobactions.util.Metrics;
+import com.snowypeaksystems.mobactions.util.TimerWheel;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.scheduler.BukkitRunnable;
 
+/**
+ * Implementation of IMobEvent. Every state change is a compare-and-set of the current phase, so
+ * players can join, and the event can be opened, started and cancelled, from any thread, and
+ * timers left over from an earlier phase do nothing when they run.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
 public class MobEvent implements IMobEvent {
+  private static final int COUNTDOWN_SECONDS = 10;
+  private static final Metrics.Timer START_TIMER = Metrics.timer("action.EventMobStartAction");
+  private static final Metrics.Timer SAVE_TIMER = Metrics.timer("persistence.save");
+  private static final Metrics.Timer DELETE_TIMER = Metrics.timer("persistence.delete");
+  public static final int DEFAULT_TELEPORTS_PER_TICK = 5;
+  public static final int DEFAULT_COMMANDS_PER_TICK = 20;
+  private static volatile Messages.Display countdownDisplay = Messages.Display.CHAT;
+  private static volatile int teleportsPerTick = DEFAULT_TELEPORTS_PER_TICK;
+  private static volatile int commandsPerTick = DEFAULT_COMMANDS_PER_TICK;
   private final String name;
   private final int maxPlayers;
   private final long timeout;
-  private BukkitRunnable timeoutCounter;
-  private BukkitRunnable countdown;
+  private final TimerWheel timers;
+  private volatile TimerWheel.Timeout timeoutTimer;
+  private volatile TimerWheel.Timeout countdownTimer;
   private final Set<MobActionsUser> users;
+  private final Set<StaggeredStart> starts;
   private final AMobActions plugin;
   private final MobData data;
-  private final File file;
-  private State state;
+  private final FileIndex index;
+  private File file;
+  private final AtomicReference<Phase> phase;
+
+  /** Sets where every event shows its countdown to the players that joined it. */
+  public static void setCountdownDisplay(Messages.Display display) {
+    countdownDisplay = display;
+  }
+
+  /**
+   * Sets how many players every event starts each tick once its countdown ends, so large events
+   * start over several ticks. 0 starts every player at once.
+   * @param teleports players sent to the warp of a warp event each tick
+   * @param commands players that run the command of a command event each tick
+   */
+  public static void setStartBudget(int teleports, int commands) {
+    teleportsPerTick = Math.max(0, teleports);
+    commandsPerTick = Math.max(0, commands);
+  }
 
   MobEvent(String name, MobData data, long timeout, AMobActions plugin, int maxPlayers,
-           File eventFolder) {
+           FileIndex index, TimerWheel timers) {
     if (timeout < 1) {
       throw new IllegalArgumentException("Argument \"timeout\" cannot be less than 1");
     }
@@ -49,25 +92,32 @@ public class MobEvent implements IMobEvent {
     this.timeout = timeout;
     this.plugin = plugin;
     this.maxPlayers = maxPlayers;
-    state = State.CLOSED;
-    users = new HashSet<>();
-    file = new File(eventFolder, String.valueOf(name.toLowerCase().hashCode()));
+    phase = new AtomicReference<>(new Phase(State.CLOSED));
+    users = ConcurrentHashMap.newKeySet();
+    starts = ConcurrentHashMap.newKeySet();
+    this.index = index;
+    this.timers = timers;
+    file = index.allocate(name);
   }
 
-  MobEvent(File file, AMobActions plugin) throws EventConfigException {
+  MobEvent(File file, FileIndex index, AMobActions plugin, TimerWheel timers)
+      throws EventConfigException {
     YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
     if (!config.isSet("name") || !config.isSet("timeout")
         || !config.isSet("max-players")) {
       throw new EventConfigException("config key is not set");
     }
     this.file = file;
+    this.index = index;
     this.data = loadData(config);
     this.name = config.getString("name", "");
     this.maxPlayers = config.getInt("max-players", 0);
     this.timeout = config.getLong("timeout");
-    this.users = new HashSet<>();
-    this.state = State.CLOSED;
+    this.users = ConcurrentHashMap.newKeySet();
+    this.starts = ConcurrentHashMap.newKeySet();
+    this.phase = new AtomicReference<>(new Phase(State.CLOSED));
     this.plugin = plugin;
+    this.timers = timers;
 
     if (timeout < 1) {
       throw new EventConfigException("Property \"timeout\" cannot be less than 1");
@@ -80,20 +130,41 @@ public class MobEvent implements IMobEvent {
 
   @Override
   public void addPlayer(MobActionsUser player) throws EventStateException {
-    if (state != State.OPEN) {
+    Phase current = phase.get();
+    // The slot is taken before the player is added, so no more than maxPlayers players can join
+    if (current.state != State.OPEN || !current.takeSlot(maxPlayers)) {
       throw new EventStateException(gm("event-closed-error", name));
     }
 
-    users.add(player);
+    if (!users.add(player)) {
+      // Players that already joined keep the slot they have
+      current.releaseSlot();
+      return;
+    }
 
-    if (users.size() == maxPlayers) {
-      force();
+    // The countdown may have started while the player was being added
+    if (phase.get() != current) {
+      users.remove(player);
+      current.releaseSlot();
+      throw new EventStateException(gm("event-closed-error", name));
+    }
+
+    if (current.isFull(maxPlayers)) {
+      startCountdown(current);
     }
   }
 
   @Override
   public void removePlayer(MobActionsUser player) {
-    users.remove(player);
+    Phase current = phase.get();
+    if (users.remove(player) && current.state == State.OPEN) {
+      current.releaseSlot();
+    }
+
+    for (StaggeredStart start : starts) {
+      start.remove(player);
+    }
+    finishStarts();
   }
 
   @Override
@@ -123,54 +194,49 @@ public class MobEvent implements IMobEvent {
 
   @Override
   public void open() throws EventStateException {
-    if (state != State.CLOSED) {
+    Phase closed = phase.get();
+    Phase opened = new Phase(State.OPEN);
+    if (closed.state != State.CLOSED || !phase.compareAndSet(closed, opened)) {
       throw new EventStateException(gm("event-already-open-error", name));
     }
 
-    state = State.OPEN;
-    timeoutCounter = getTimeoutCounter();
-    timeoutCounter.runTaskLater(plugin, timeout * 20);
+    timeoutTimer = timers.schedule(timeout * 20, () -> startCountdown(opened));
   }
 
   @Override
   public void forceStart() throws EventStateException {
-    if (state != State.OPEN) {
+    Phase current = phase.get();
+    if (current.state != State.OPEN || !startCountdown(current)) {
       throw new EventStateException(gm("event-closed-error", name));
     }
-
-    force();
   }
 
   @Override
   public void cancel() {
-    for (MobActionsUser user : users) {
-      user.sendMessage(gm("event-cancelled-text", name));
+    Phase previous = phase.getAndUpdate(
+        current -> current.state == State.CLOSED ? current : new Phase(State.CLOSED));
+
+    if (previous.state == State.OPEN) {
+      cancelTimer(timeoutTimer);
+    } else if (previous.state == State.COUNTDOWN) {
+      cancelTimer(countdownTimer);
     }
 
-    users.clear();
+    Set<MobActionsUser> joined = new HashSet<>(users);
+    users.removeAll(joined);
 
-    if (state == State.OPEN) {
-      timeoutCounter.cancel();
-    } else if (state == State.COUNTDOWN) {
-      countdown.cancel();
+    // Players still waiting to be started by an earlier countdown are not started either
+    for (StaggeredStart start : starts) {
+      joined.addAll(start.stop());
     }
+    starts.removeIf(StaggeredStart::isDone);
 
-    state = State.CLOSED;
+    Messages.broadcast(joined, Messages.Display.CHAT, "event-cancelled-text", name);
   }
 
   @Override
   public State getState() {
-    return state;
-  }
-
-  private void force() {
-    if (state == State.OPEN) {
-      timeoutCounter.cancel();
-    }
-
-    state = State.COUNTDOWN;
-    countdown = getCountdown();
-    countdown.runTaskTimer(plugin, 0, 20);
+    return phase.get().state;
   }
 
   @Override
@@ -182,12 +248,31 @@ public class MobEvent implements IMobEvent {
   public void save() throws IOException {
     YamlConfiguration config = toYamlConfiguration();
 
-    config.save(file);
+    long start = SAVE_TIMER.start();
+    try {
+      // Our file may have been given to another event if this one was deleted
+      file = index.allocate(name);
+      AtomicFile.write(file, config.saveToString());
+      index.put(name, file);
+    } finally {
+      SAVE_TIMER.stop(start);
+    }
   }
 
   @Override
   public boolean delete() {
-    return file.delete();
+    long start = DELETE_TIMER.start();
+    boolean deleted = file.delete();
+
+    try {
+      index.remove(name, file);
+    } catch (IOException e) {
+      Bukkit.getLogger().log(Level.WARNING, "Could not update event index", e);
+    } finally {
+      DELETE_TIMER.stop(start);
+    }
+
+    return deleted;
   }
 
   private YamlConfiguration toYamlConfiguration() {
@@ -220,50 +305,127 @@ public class MobEvent implements IMobEvent {
     }
   }
 
-  private BukkitRunnable getCountdown() {
-    MobEvent e = this;
+  // Moves the event from the opened phase to its countdown, returns false if it already moved
+  private boolean startCountdown(Phase opened) {
+    Phase counting = new Phase(State.COUNTDOWN);
+    if (!phase.compareAndSet(opened, counting)) {
+      return false;
+    }
+
+    cancelTimer(timeoutTimer);
+    countdownTimer = timers.schedule(1, () -> countdownStep(counting, COUNTDOWN_SECONDS));
+    return true;
+  }
+
+  private void countdownStep(Phase counting, int secondsLeft) {
+    if (phase.get() != counting) {
+      return;
+    }
+
+    if (secondsLeft > 0) {
+      Messages.broadcast(users, countdownDisplay, "event-countdown-text", name,
+          String.valueOf(secondsLeft));
+      countdownTimer = timers.schedule(20, () -> countdownStep(counting, secondsLeft - 1));
+      return;
+    }
+
+    if (!phase.compareAndSet(counting, new Phase(State.CLOSED))) {
+      return;
+    }
+
+    Set<MobActionsUser> joined = Set.copyOf(users);
+
+    MobEventStartEvent event = new MobEventStartEvent(this);
+    Bukkit.getPluginManager().callEvent(event);
+    // Only remove the players that were part of this run, the event may already be open again
+    users.removeAll(joined);
+
+    if (event.isCancelled()) {
+      DebugLogger.getLogger().log("Event cancelled");
+      return;
+    }
+
+    startPlayers(joined, plugin.getScheduler());
+  }
+
+  /** Starts the players a few per tick, until they are all started or the event is cancelled. */
+  void startPlayers(Set<MobActionsUser> joined, ITaskScheduler scheduler) {
     IEventMobStartAction action = new EventMobStartAction(data, plugin);
-    return new BukkitRunnable() {
-      private int seconds = 10;
-      @Override
-      public void run() {
-        if (seconds < 1) {
-          super.cancel();
-          state = State.CLOSED;
-
-          MobEventStartEvent event = new MobEventStartEvent(e);
-          Bukkit.getPluginManager().callEvent(event);
-          if (!event.isCancelled()) {
-            for (MobActionsUser user : users) {
-              try {
-                action.run(user);
-              } catch (PlayerException e) {
-                user.sendMessage(e.getPlayerFormattedString());
-              }
-            }
-          } else {
-            DebugLogger.getLogger().log("Event cancelled");
-          }
-
-          users.clear();
-        } else {
-          for (MobActionsUser user : users) {
-            user.sendMessage(gm("event-countdown-text", name, String.valueOf(seconds)));
-          }
-          seconds--;
-        }
-      }
-    };
+    int perTick = data instanceof IWarpData ? teleportsPerTick : commandsPerTick;
+    // Each player is started on their own thread, since regions may tick separately
+    StaggeredStart staggered = new StaggeredStart(joined, perTick, timers, scheduler, user -> {
+      startPlayer(action, user);
+      finishStarts();
+    }, this::sendStartProgress);
+
+    starts.add(staggered);
+    staggered.begin();
+    finishStarts();
   }
 
-  private BukkitRunnable getTimeoutCounter() {
-    return new BukkitRunnable() {
-      @Override
-      public void run() {
-        state = State.COUNTDOWN;
-        countdown = getCountdown();
-        countdown.runTaskTimer(plugin, 0, 20);
-      }
-    };
+  private void sendStartProgress(Set<MobActionsUser> waiting, int started, int total,
+                                 boolean first) {
+    if (first) {
+      Messages.broadcast(waiting, Messages.Display.CHAT, "event-start-queue-text", name);
+    } else {
+      Messages.broadcast(waiting, Messages.Display.ACTION_BAR, "event-start-progress-text", name,
+          String.valueOf(started), String.valueOf(total));
+    }
+  }
+
+  private void finishStarts() {
+    starts.removeIf(StaggeredStart::isDone);
+  }
+
+  private static void startPlayer(IEventMobStartAction action, MobActionsUser user) {
+    long start = START_TIMER.start();
+    try {
+      action.run(user);
+    } catch (PlayerException e) {
+      user.sendMessage(e.getPlayerFormattedString());
+    } finally {
+      START_TIMER.stop(start);
+    }
+  }
+
+  private static void cancelTimer(TimerWheel.Timeout timer) {
+    if (timer != null) {
+      timer.cancel();
+    }
+  }
+
+  /**
+   * One run through a state. Phases are compared by identity, so a timer scheduled for an earlier
+   * run never matches the current phase, even if the event is in the same state again.
+   */
+  private static final class Phase {
+    private final State state;
+    private final AtomicInteger slots;
+
+    Phase(State state) {
+      this.state = state;
+      this.slots = new AtomicInteger();
+    }
+
+    /** Takes a slot for a joining player, unless all maxPlayers slots are taken. */
+    boolean takeSlot(int maxPlayers) {
+      int taken;
+      do {
+        taken = slots.get();
+        if (maxPlayers > 0 && taken >= maxPlayers) {
+          return false;
+        }
+      } while (!slots.compareAndSet(taken, taken + 1));
+
+      return true;
+    }
+
+    void releaseSlot() {
+      slots.decrementAndGet();
+    }
+
+    boolean isFull(int maxPlayers) {
+      return maxPlayers > 0 && slots.get() >= maxPlayers;
+    }
   }
 }
@@ -1,51 +1,65 @@
 package com.snowypeaksystems.mobactions.mobevent;
 
 import com.snowypeaksystems.mobactions.AMobActions;
+import com.snowypeaksystems.mobactions.data.FileIndex;
 import com.snowypeaksystems.mobactions.data.MobData;
 import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.util.NameIndex;
+import com.snowypeaksystems.mobactions.util.TimerWheel;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import org.bukkit.Bukkit;
 
 public class MobEventManager implements IMobEventManager {
   private final Map<String, IMobEvent> events;
+  private final NameIndex names;
   private final AMobActions plugin;
-  private final File eventFolder;
+  private final FileIndex index;
+  private final TimerWheel timers;
 
-  /** Create MobEventManager from provided plugin and event folder. */
-  public MobEventManager(AMobActions plugin, File eventFolder) throws FileNotFoundException {
+  /** Create MobEventManager from provided plugin, event folder and timer for event countdowns. */
+  public MobEventManager(AMobActions plugin, File eventFolder, TimerWheel timers)
+      throws FileNotFoundException {
     this.plugin = plugin;
-    events = new HashMap<>();
+    this.timers = timers;
+    // Read while completing commands off the main thread
+    events = new ConcurrentHashMap<>();
+    names = new NameIndex();
 
     if (!eventFolder.exists() || !eventFolder.isDirectory()) {
       throw new FileNotFoundException("Event Folder Not Found");
     }
 
-    this.eventFolder = eventFolder;
+    this.index = new FileIndex(eventFolder);
     reload();
   }
 
   @Override
-  public IMobEvent createEvent(String name, MobData data, long timeout, int maxPlayers)
+  public synchronized IMobEvent createEvent(String name, MobData data, long timeout, int maxPlayers)
       throws IOException {
-    IMobEvent event = new MobEvent(name, data, timeout, plugin, maxPlayers, eventFolder);
+    IMobEvent event = new MobEvent(name, data, timeout, plugin, maxPlayers, index, timers);
     event.save();
     events.put(name.toLowerCase(), event);
+    names.add(name);
 
     return event;
   }
 
   @Override
-  public void removeEvent(String name) {
+  public synchronized void removeEvent(String name) {
     IMobEvent event = events.remove(name.toLowerCase());
 
     if (event != null) {
+      names.remove(name);
       event.cancel();
       event.delete();
     }
@@ -62,31 +76,34 @@ public class MobEventManager implements IMobEventManager {
   }
 
   @Override
-  public void reload() {
+  public synchronized void reload() {
+    // Closed events may still be starting their players, so every event is cancelled
     for (IMobEvent event : events.values()) {
-      if (event.getState() != IMobEvent.State.CLOSED) {
-        event.cancel();
-      }
+      event.cancel();
+    }
+
+    index.load();
+
+    try {
+      index.addUnindexed();
+    } catch (IOException e) {
+      Bukkit.getLogger().log(Level.WARNING, "Could not save event index", e);
     }
 
-    events.clear();
-    File[] files = eventFolder.listFiles();
-
-    if (files != null) {
-      for (File f : files) {
-        if (f.getName().startsWith(".") || f.isDirectory()) {
-          continue;
-        }
-
-        try {
-          IMobEvent mobEvent = new MobEvent(f, plugin);
-          events.put(mobEvent.getAlias().toLowerCase(), mobEvent);
-        } catch (EventConfigException e) {
-          Bukkit.getLogger().log(Level.FINE, e.getMessage(), e);
-        }
+    Map<String, IMobEvent> loaded = new HashMap<>();
+    for (Map.Entry<File, String> entry : index.getFiles().entrySet()) {
+      try {
+        IMobEvent mobEvent = new MobEvent(entry.getKey(), index, plugin, timers);
+        loaded.put(mobEvent.getAlias().toLowerCase(), mobEvent);
+      } catch (EventConfigException e) {
+        Bukkit.getLogger().log(Level.FINE, e.getMessage(), e);
       }
     }
 
+    // Replace the events without emptying the map, since it is read while completing commands
+    events.keySet().retainAll(loaded.keySet());
+    events.putAll(loaded);
+    names.replaceAll(loaded.keySet());
   }
 
   @Override
@@ -101,6 +118,15 @@ public class MobEventManager implements IMobEventManager {
     return events.keySet();
   }
 
+  @Override
+  public List<String> completeEventNames(String prefix, int limit,
+                                         Predicate<IMobEvent> filter) {
+    return names.complete(prefix, limit, name -> {
+      IMobEvent event = events.get(name);
+      return event != null && filter.test(event);
+    });
+  }
+
   @Override
   public Set<IMobEvent> getLoadedEvents() {
     return new HashSet<>(events.values());
@@ -0,0 +1,126 @@
+package com.snowypeaksystems.mobactions.mobevent;
+
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
+import com.snowypeaksystems.mobactions.util.TimerWheel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Starts the players of an event a few per tick, so a large event does not teleport every player
+ * or run every command in the same tick. Players are started in order of their names, so the same
+ * players always start in the same order, and every player is started exactly once unless they are
+ * removed first.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+final class StaggeredStart {
+  static final int PROGRESS_INTERVAL_TICKS = 20;
+
+  private final List<MobActionsUser> queue;
+  private final Set<MobActionsUser> waiting;
+  private final int perTick;
+  private final TimerWheel timers;
+  private final ITaskScheduler scheduler;
+  private final Consumer<MobActionsUser> start;
+  private final Progress progress;
+  private int next;
+  private int ticks;
+
+  /**
+   * Creates a start for the players, which does nothing until begin is called.
+   * @param players the players to start
+   * @param perTick the most players to start each tick, or 0 to start every player at once
+   * @param timers the wheel that runs the following batches
+   * @param scheduler the scheduler that runs each player's start on their thread
+   * @param start starts a single player
+   * @param progress told about players that are still waiting when the start begins and every
+   *                 second after that
+   */
+  StaggeredStart(Collection<MobActionsUser> players, int perTick, TimerWheel timers,
+                 ITaskScheduler scheduler, Consumer<MobActionsUser> start, Progress progress) {
+    this.queue = new ArrayList<>(players);
+    this.queue.sort(Comparator.comparing(MobActionsUser::getName,
+        Comparator.nullsLast(Comparator.naturalOrder())));
+    this.waiting = ConcurrentHashMap.newKeySet();
+    this.waiting.addAll(queue);
+    this.perTick = Math.max(0, perTick);
+    this.timers = timers;
+    this.scheduler = scheduler;
+    this.start = start;
+    this.progress = progress;
+  }
+
+  /** Starts the first batch of players and schedules the rest. */
+  void begin() {
+    startBatch();
+  }
+
+  /** Stops the player from being started. Returns true if they were still waiting. */
+  boolean remove(MobActionsUser player) {
+    return waiting.remove(player);
+  }
+
+  /** Stops every waiting player from being started, and returns the players that were waiting. */
+  Set<MobActionsUser> stop() {
+    Set<MobActionsUser> stopped = new HashSet<>();
+    for (MobActionsUser player : queue) {
+      if (waiting.remove(player)) {
+        stopped.add(player);
+      }
+    }
+
+    return stopped;
+  }
+
+  /** Returns true once every player has been started or removed. */
+  boolean isDone() {
+    return waiting.isEmpty();
+  }
+
+  /** Returns the number of players that have not been started or removed. */
+  int getWaiting() {
+    return waiting.size();
+  }
+
+  private void startBatch() {
+    int started = 0;
+    while (next < queue.size() && (perTick == 0 || started < perTick)) {
+      MobActionsUser player = queue.get(next++);
+
+      // Players removed while waiting do not use up the budget
+      if (waiting.remove(player)) {
+        player.runTask(scheduler, () -> start.accept(player));
+        started++;
+      }
+    }
+
+    if (next >= queue.size() || waiting.isEmpty()) {
+      return;
+    }
+
+    if (ticks % PROGRESS_INTERVAL_TICKS == 0) {
+      progress.update(Collections.unmodifiableSet(waiting), queue.size() - waiting.size(),
+          queue.size(), ticks == 0);
+    }
+
+    ticks++;
+    timers.schedule(1, this::startBatch);
+  }
+
+  /** Tells waiting players how far along the start is. */
+  @FunctionalInterface
+  interface Progress {
+    /**
+     * Called with the players still waiting, how many players were started or removed, how many
+     * players there are, and whether this is the first update of the start.
+     */
+    void update(Set<MobActionsUser> waiting, int started, int total, boolean first);
+  }
+}
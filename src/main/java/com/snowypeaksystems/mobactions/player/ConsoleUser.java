@@ -1,6 +1,8 @@
 package com.snowypeaksystems.mobactions.player;
 
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
 import java.util.concurrent.CompletableFuture;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
 import org.bukkit.Server;
 import org.bukkit.command.ConsoleCommandSender;
@@ -24,6 +26,10 @@ public class ConsoleUser implements ConsoleActionUser {
     this.server = null;
   }
 
+  ConsoleCommandSender getSender() {
+    return console;
+  }
+
   @Override
   public boolean canUseWarp(String warp) {
     return false;
@@ -99,6 +105,11 @@ public class ConsoleUser implements ConsoleActionUser {
     return true;
   }
 
+  @Override
+  public boolean canViewStats() {
+    return true;
+  }
+
   @Override
   public IStatus getStatus() {
     throw new UnsupportedOperationException();
@@ -114,6 +125,46 @@ public class ConsoleUser implements ConsoleActionUser {
     console.sendMessage(messages);
   }
 
+  @Override
+  public void sendMessage(Component... messages) {
+    for (Component message : messages) {
+      console.sendMessage(message);
+    }
+  }
+
+  @Override
+  public void sendActionBar(String message) {
+    sendMessage(message);
+  }
+
+  @Override
+  public void sendActionBar(Component message) {
+    sendMessage(message);
+  }
+
+  @Override
+  public void sendTitle(String title, String subtitle) {
+    if (title.isEmpty()) {
+      sendMessage(subtitle);
+    } else {
+      sendMessage(title, subtitle);
+    }
+  }
+
+  @Override
+  public void sendTitle(Component title, Component subtitle) {
+    if (Component.empty().equals(title)) {
+      sendMessage(subtitle);
+    } else {
+      sendMessage(title, subtitle);
+    }
+  }
+
+  @Override
+  public void runTask(ITaskScheduler scheduler, Runnable task) {
+    scheduler.runGlobal(task);
+  }
+
   @Override
   public boolean performCommand(String command) {
     if (server == null) {
@@ -1,7 +1,14 @@
 package com.snowypeaksystems.mobactions.player;
 
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
+import com.snowypeaksystems.mobactions.util.Metrics;
 import io.papermc.lib.PaperLib;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
@@ -10,12 +17,32 @@ import org.bukkit.entity.Player;
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public class MobActionsPlayer implements ConsoleActionUser {
+  private static final Metrics.Timer TELEPORT_TIMER = Metrics.timer("teleport");
+  // Titles stay up a little over a second, so titles sent every second do not flicker
+  private static final int TITLE_FADE_IN_TICKS = 0;
+  private static final int TITLE_STAY_TICKS = 25;
+  private static final int TITLE_FADE_OUT_TICKS = 5;
   private final Player player;
   private final IStatus status;
+  private final PermissionCache warpPermissions;
+  private final PermissionCache eventPermissions;
 
+  /** Wraps the player. */
   public MobActionsPlayer(Player player) {
     this.player = player;
     this.status = new Status();
+    this.warpPermissions = new PermissionCache(player, "mobactions.warp");
+    this.eventPermissions = new PermissionCache(player, "mobactions.event");
+  }
+
+  Player getPlayer() {
+    return player;
+  }
+
+  /** Forgets the player's cached warp and event permissions, so they are checked again. */
+  public void invalidatePermissions() {
+    warpPermissions.invalidate();
+    eventPermissions.invalidate();
   }
 
   @Override
@@ -25,7 +52,9 @@ public class MobActionsPlayer implements ConsoleActionUser {
 
   @Override
   public CompletableFuture<Boolean> teleport(Location location) {
-    return PaperLib.teleportAsync(player, location);
+    long start = TELEPORT_TIMER.start();
+    return PaperLib.teleportAsync(player, location)
+        .whenComplete((success, e) -> TELEPORT_TIMER.stop(start));
   }
 
   @Override
@@ -33,6 +62,40 @@ public class MobActionsPlayer implements ConsoleActionUser {
     player.sendMessage(messages);
   }
 
+  @Override
+  public void sendMessage(Component... messages) {
+    for (Component message : messages) {
+      player.sendMessage(message);
+    }
+  }
+
+  @Override
+  public void sendActionBar(String message) {
+    player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(message));
+  }
+
+  @Override
+  public void sendActionBar(Component message) {
+    player.sendActionBar(message);
+  }
+
+  @Override
+  public void sendTitle(String title, String subtitle) {
+    player.sendTitle(title, subtitle, TITLE_FADE_IN_TICKS, TITLE_STAY_TICKS,
+        TITLE_FADE_OUT_TICKS);
+  }
+
+  @Override
+  public void sendTitle(Component title, Component subtitle) {
+    player.showTitle(Title.title(title, subtitle, Title.Times.of(ticks(TITLE_FADE_IN_TICKS),
+        ticks(TITLE_STAY_TICKS), ticks(TITLE_FADE_OUT_TICKS))));
+  }
+
+  @Override
+  public void runTask(ITaskScheduler scheduler, Runnable task) {
+    scheduler.runForEntity(player, task);
+  }
+
   @Override
   public boolean performCommand(String command) {
     return player.performCommand(command);
@@ -50,8 +113,7 @@ public class MobActionsPlayer implements ConsoleActionUser {
 
   @Override
   public boolean canUseWarp(String warp) {
-    return player.hasPermission("mobactions.warp.*")
-        || player.hasPermission("mobactions.warp." + warp.toLowerCase());
+    return warpPermissions.has(warp);
   }
 
   @Override
@@ -61,8 +123,7 @@ public class MobActionsPlayer implements ConsoleActionUser {
 
   @Override
   public boolean canJoinEvent(String event) {
-    return player.hasPermission("mobactions.event.*")
-        || player.hasPermission("mobactions.event." + event.toLowerCase());
+    return eventPermissions.has(event);
   }
 
   @Override
@@ -125,8 +186,17 @@ public class MobActionsPlayer implements ConsoleActionUser {
     return player.hasPermission("mobactions.admin.reload");
   }
 
+  @Override
+  public boolean canViewStats() {
+    return player.hasPermission("mobactions.admin.stats");
+  }
+
   @Override
   public boolean canUseConsoleCommand() {
     return player.hasPermission("mobactions.consolecmd");
   }
+
+  private static Duration ticks(int ticks) {
+    return Duration.ofMillis(ticks * 50L);
+  }
 }
@@ -1,6 +1,8 @@
 package com.snowypeaksystems.mobactions.player;
 
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
 import java.util.concurrent.CompletableFuture;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
 
 /**
@@ -17,6 +19,24 @@ public interface MobActionsUser {
   /** Sends a message to the user. */
   void sendMessage(String... messages);
 
+  /** Sends a message to the user as Components. Only call on servers that support Adventure. */
+  void sendMessage(Component... messages);
+
+  /** Shows a message above the user's hotbar, or sends it if the user does not have one. */
+  void sendActionBar(String message);
+
+  /** Shows a Component above the user's hotbar. Only call on servers that support Adventure. */
+  void sendActionBar(Component message);
+
+  /** Shows a title and subtitle on the user's screen, or sends them if the user has no screen. */
+  void sendTitle(String title, String subtitle);
+
+  /** Shows a title and subtitle as Components. Only call on servers that support Adventure. */
+  void sendTitle(Component title, Component subtitle);
+
+  /** Runs the task on the scheduler's thread for this user, right away if this is that thread. */
+  void runTask(ITaskScheduler scheduler, Runnable task);
+
   /** Performs a command as the and returns true on success, false otherwise.*/
   boolean performCommand(String command);
 
@@ -55,4 +75,6 @@ public interface MobActionsUser {
   boolean canRemoveWarp();
 
   boolean canReload();
+
+  boolean canViewStats();
 }
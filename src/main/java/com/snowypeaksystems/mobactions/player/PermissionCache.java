@@ -0,0 +1,73 @@
+package com.snowypeaksystems.mobactions.player;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.permissions.Permissible;
+
+/**
+ * Remembers whether a player has the permission for each name under a prefix, like the
+ * permission for each warp. Granted if the player has either prefix.* or prefix.name.
+ * Decisions are forgotten when invalidated and after the configured lifetime, since permission
+ * plugins do not announce changes.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class PermissionCache {
+  public static final long DEFAULT_LIFETIME_SECONDS = 5;
+  private static volatile long lifetime = TimeUnit.SECONDS.toNanos(DEFAULT_LIFETIME_SECONDS);
+
+  private final Permissible permissible;
+  private final String prefix;
+  private final String wildcard;
+  private final ConcurrentMap<String, Boolean> decisions;
+  private volatile long created;
+
+  PermissionCache(Permissible permissible, String prefix) {
+    this.permissible = permissible;
+    this.prefix = prefix + ".";
+    this.wildcard = prefix + ".*";
+    this.decisions = new ConcurrentHashMap<>();
+    this.created = System.nanoTime();
+  }
+
+  /** Sets how long decisions are kept for every player. A lifetime of 0 disables caching. */
+  public static void setLifetime(long seconds) {
+    lifetime = TimeUnit.SECONDS.toNanos(Math.max(0, seconds));
+  }
+
+  /** Returns true if the permissible has the permission for the name. */
+  boolean has(String name) {
+    long maxAge = lifetime;
+    if (maxAge == 0) {
+      return check(name);
+    }
+
+    long now = System.nanoTime();
+    if (now - created > maxAge) {
+      invalidate();
+    }
+
+    Boolean decision = decisions.get(name);
+    if (decision == null) {
+      decision = check(name);
+      decisions.put(name, decision);
+    }
+
+    return decision;
+  }
+
+  /** Forgets every decision. */
+  void invalidate() {
+    created = System.nanoTime();
+    decisions.clear();
+  }
+
+  int size() {
+    return decisions.size();
+  }
+
+  private boolean check(String name) {
+    return permissible.hasPermission(wildcard)
+        || permissible.hasPermission(prefix + name.toLowerCase());
+  }
+}
@@ -0,0 +1,79 @@
+package com.snowypeaksystems.mobactions.player;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.bukkit.Server;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+
+/**
+ * Keeps one MobActionsUser per online player and one for the console. Each entry holds on to its
+ * Player, so entries are removed when their player quits and all of them are dropped on reload.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class UserRegistry {
+  private final ConcurrentMap<UUID, MobActionsPlayer> players;
+  private final Server server;
+  private volatile ConsoleUser console;
+
+  public UserRegistry(Server server) {
+    this.players = new ConcurrentHashMap<>();
+    this.server = server;
+  }
+
+  /** Returns the user for the player, creating it if the player does not have one yet. */
+  public MobActionsUser get(Player player) {
+    MobActionsPlayer user = players.computeIfAbsent(
+        player.getUniqueId(), uuid -> new MobActionsPlayer(player));
+
+    // The player rejoined, so the user still wraps the Player object from the last session
+    if (user.getPlayer() != player) {
+      user = new MobActionsPlayer(player);
+      players.put(player.getUniqueId(), user);
+    }
+
+    return user;
+  }
+
+  /** Returns the user for the sender, which is either a player or the console. */
+  public MobActionsUser get(CommandSender sender) {
+    if (sender instanceof Player) {
+      return get((Player) sender);
+    }
+
+    ConsoleUser user = console;
+    if (user == null || user.getSender() != sender) {
+      user = new ConsoleUser((ConsoleCommandSender) sender, server);
+      console = user;
+    }
+
+    return user;
+  }
+
+  /** Removes the player's user, returning it, or null if the player did not have one. */
+  public MobActionsUser remove(Player player) {
+    return players.remove(player.getUniqueId());
+  }
+
+  /** Forgets the cached permissions of the player, if they have a user. */
+  public void invalidatePermissions(Player player) {
+    MobActionsPlayer user = players.get(player.getUniqueId());
+
+    if (user != null) {
+      user.invalidatePermissions();
+    }
+  }
+
+  /** Removes every user. */
+  public void clear() {
+    players.clear();
+    console = null;
+  }
+
+  /** Returns the number of players that have a user. */
+  public int size() {
+    return players.size();
+  }
+}
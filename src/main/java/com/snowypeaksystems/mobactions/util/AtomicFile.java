@@ -0,0 +1,38 @@
+package com.snowypeaksystems.mobactions.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes files so that readers see either the old or the new contents, never a partial write.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class AtomicFile {
+  private AtomicFile() {}
+
+  /** Writes contents to a temporary file next to file, then renames it over file. */
+  public static void write(File file, String contents) throws IOException {
+    write(file, contents.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Writes bytes to a temporary file next to file, then renames it over file. */
+  public static void write(File file, byte[] bytes) throws IOException {
+    Path target = file.toPath();
+    // Hidden so that directory scans skip it
+    Path temp = target.resolveSibling("." + file.getName() + ".tmp");
+
+    Files.write(temp, bytes);
+
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.snowypeaksystems.mobactions.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.ChatColor;
+
+/**
+ * A Message compiled to Adventure Components. The text around each token is deserialized once,
+ * so only the arguments are converted when the message is sent. Only use when Adventure exists.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+final class ComponentMessage {
+  private static final LegacyComponentSerializer SERIALIZER =
+      LegacyComponentSerializer.legacySection();
+
+  private final Message message;
+  private final Component[] literals;
+  private final String[] argCodes;
+  private final Component cached;
+
+  ComponentMessage(Message message) {
+    this.message = message;
+    int tokens = message.getTokenCount();
+    literals = new Component[tokens + 1];
+    argCodes = new String[tokens];
+
+    // Each literal is prefixed with the format codes still active, so it keeps its legacy style
+    String codes = "";
+    for (int i = 0; i <= tokens; i++) {
+      String literal = (i > 0 ? message.getAfter(i - 1) : "")
+          + (i < tokens ? message.getBefore(i) : message.getTail());
+      literals[i] = SERIALIZER.deserialize(codes + literal);
+      codes = ChatColor.getLastColors(codes + literal);
+
+      if (i < tokens) {
+        argCodes[i] = codes;
+      }
+    }
+
+    cached = tokens == 0 ? literals[0] : null;
+  }
+
+  /** Returns the message as a Component, replacing each token with args. */
+  Component replace(String... args) {
+    if (cached != null) {
+      return cached;
+    }
+
+    String[] formatted = new String[argCodes.length];
+    for (int i = 0; i < formatted.length; i++) {
+      if (i >= args.length) {
+        // Let Message report the missing arguments
+        return SERIALIZER.deserialize(message.replace(args));
+      }
+
+      formatted[i] = ChatColor.translateAlternateColorCodes('&', args[i]);
+      if (formatted[i].indexOf(ChatColor.COLOR_CHAR) >= 0) {
+        // Codes in an argument change the style of the text after it
+        return SERIALIZER.deserialize(message.replace(args));
+      }
+    }
+
+    TextComponent.Builder builder = Component.text().append(literals[0]);
+    for (int i = 0; i < formatted.length; i++) {
+      builder.append(SERIALIZER.deserialize(argCodes[i] + formatted[i])).append(literals[i + 1]);
+    }
+
+    return builder.build();
+  }
+}
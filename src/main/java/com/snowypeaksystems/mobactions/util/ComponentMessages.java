@@ -0,0 +1,52 @@
+package com.snowypeaksystems.mobactions.util;
+
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import java.util.Collection;
+import net.kyori.adventure.text.Component;
+
+/**
+ * Messages compiled to Adventure Components, for servers that support Adventure.
+ * Do not use this class unless Messages.isComponentsEnabled() returns true.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class ComponentMessages {
+  private ComponentMessages() {}
+
+  /**
+   * Get the message for the given key as a Component, replacing instances of the token with args.
+   * @param key the identifier of the message
+   * @param args list of strings to replace tokens with in messages
+   * @return Returns the message for the key
+   * @throws IllegalArgumentException If a message is not found for the provided key
+   */
+  public static Component gc(String key, String... args) {
+    Message message = Messages.getMessage(key);
+    ComponentMessage component = (ComponentMessage) message.getComponentMessage();
+
+    // Compiled on first use and discarded with the Message when messages are reloaded
+    if (component == null) {
+      component = new ComponentMessage(message);
+      message.setComponentMessage(component);
+    }
+
+    return component.replace(args);
+  }
+
+  /** Sends the message for the given key to every user as a Component, formatting it once. */
+  static void broadcast(Collection<? extends MobActionsUser> users, Messages.Display display,
+                        String key, String... args) {
+    Component message = gc(key, args);
+    for (MobActionsUser user : users) {
+      switch (display) {
+        case ACTION_BAR:
+          user.sendActionBar(message);
+          break;
+        case TITLE:
+          user.sendTitle(Component.empty(), message);
+          break;
+        default:
+          user.sendMessage(message);
+      }
+    }
+  }
+}
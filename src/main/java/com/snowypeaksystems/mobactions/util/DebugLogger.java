@@ -1,15 +1,20 @@
 package com.snowypeaksystems.mobactions.util;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.bukkit.Bukkit;
 
 /**
  * Logger for debugging information.
- * Only works if the "MA_DEBUG" environment variable is set to true.
+ * Only works if the "MA_DEBUG" environment variable is set to true or debugging is enabled in
+ * the config.
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public class DebugLogger {
+  private static final boolean ENVIRONMENT_ENABLED = "true".equalsIgnoreCase(
+      System.getenv("MA_DEBUG"));
+  private static volatile boolean enabled = ENVIRONMENT_ENABLED;
   private static DebugLogger loggerWrapper;
   private final Logger logger;
 
@@ -22,15 +27,36 @@ public class DebugLogger {
     return loggerWrapper;
   }
 
+  /** Returns true if the "MA_DEBUG" environment variable was set to true at startup. */
+  public static boolean isEnvironmentEnabled() {
+    return ENVIRONMENT_ENABLED;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    DebugLogger.enabled = enabled;
+  }
+
   private DebugLogger() {
-    logger = Bukkit.getLogger();
+    // Unit tests run without a server
+    logger = Bukkit.getServer() != null ? Bukkit.getLogger()
+        : Logger.getLogger(DebugLogger.class.getName());
   }
 
   /** Logs the message to the console as a warning message. */
   public void log(String message) {
-    String doLog = System.getenv("MA_DEBUG");
-    if (doLog != null && doLog.equalsIgnoreCase("true")) {
+    if (enabled) {
       logger.log(Level.WARNING, "[DEBUG] " + message);
     }
   }
+
+  /** Logs the supplied message to the console as a warning message, only building it if needed. */
+  public void log(Supplier<String> message) {
+    if (enabled) {
+      logger.log(Level.WARNING, "[DEBUG] " + message.get());
+    }
+  }
 }
@@ -0,0 +1,114 @@
+package com.snowypeaksystems.mobactions.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * ITaskScheduler for Folia, which runs entity tasks on the entity's region thread and the rest on
+ * the global region thread. Folia's schedulers are found with reflection, since the API this
+ * plugin is built against does not have them.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class FoliaTaskScheduler implements ITaskScheduler {
+  private static final String SCHEDULER_PACKAGE = "io.papermc.paper.threadedregions.scheduler.";
+
+  private final Plugin plugin;
+  private final Object globalScheduler;
+  private final Method globalRun;
+  private final Method globalRunAtFixedRate;
+  private final Method getEntityScheduler;
+  private final Method entityRun;
+  private final Method isOwnedByCurrentRegion;
+  private final Method isGlobalTickThread;
+
+  /**
+   * Creates a scheduler for the plugin.
+   * @param plugin the plugin that owns the tasks
+   * @throws ReflectiveOperationException if the server does not have Folia's schedulers
+   */
+  public FoliaTaskScheduler(Plugin plugin) throws ReflectiveOperationException {
+    this(plugin, Server.class, Entity.class);
+  }
+
+  /** Creates a scheduler that finds Folia's methods on the given server and entity types. */
+  FoliaTaskScheduler(Plugin plugin, Class<? extends Server> serverType,
+                     Class<? extends Entity> entityType) throws ReflectiveOperationException {
+    Class<?> globalSchedulerType = Class.forName(SCHEDULER_PACKAGE + "GlobalRegionScheduler");
+    Class<?> entitySchedulerType = Class.forName(SCHEDULER_PACKAGE + "EntityScheduler");
+
+    this.plugin = plugin;
+    this.globalScheduler = serverType.getMethod("getGlobalRegionScheduler")
+        .invoke(plugin.getServer());
+    this.globalRun = globalSchedulerType.getMethod("run", Plugin.class, Consumer.class);
+    this.globalRunAtFixedRate = globalSchedulerType.getMethod("runAtFixedRate", Plugin.class,
+        Consumer.class, long.class, long.class);
+    this.getEntityScheduler = entityType.getMethod("getScheduler");
+    this.entityRun = entitySchedulerType.getMethod("run", Plugin.class, Consumer.class,
+        Runnable.class);
+    this.isOwnedByCurrentRegion = serverType.getMethod("isOwnedByCurrentRegion", Entity.class);
+    this.isGlobalTickThread = serverType.getMethod("isGlobalTickThread");
+  }
+
+  /** Returns true if the server runs regions on separate threads. */
+  public static boolean isFolia() {
+    try {
+      Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void runGlobal(Runnable task) {
+    if (isGlobalThread()) {
+      task.run();
+    } else {
+      invoke(globalRun, globalScheduler, plugin, asConsumer(task));
+    }
+  }
+
+  @Override
+  public void runGlobalTimer(Runnable task, long delay, long period) {
+    // Folia does not allow an initial delay of less than one tick
+    invoke(globalRunAtFixedRate, globalScheduler, plugin, asConsumer(task), Math.max(1, delay),
+        period);
+  }
+
+  @Override
+  public void runForEntity(Entity entity, Runnable task) {
+    if ((boolean) invoke(isOwnedByCurrentRegion, plugin.getServer(), entity)) {
+      task.run();
+    } else {
+      Object scheduler = invoke(getEntityScheduler, entity);
+      invoke(entityRun, scheduler, plugin, asConsumer(task), null);
+    }
+  }
+
+  @Override
+  public boolean isGlobalThread() {
+    return (boolean) invoke(isGlobalTickThread, plugin.getServer());
+  }
+
+  private static Consumer<Object> asConsumer(Runnable task) {
+    return scheduledTask -> task.run();
+  }
+
+  private static Object invoke(Method method, Object target, Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw new IllegalStateException("Could not call " + method.getName(), e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not call " + method.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.snowypeaksystems.mobactions.util;
+
+import org.bukkit.entity.Entity;
+
+/**
+ * Runs tasks on the thread that owns what they change. Servers with one main thread run every task
+ * on it, region threaded servers run entity tasks on the entity's region and the rest on the
+ * global region.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public interface ITaskScheduler {
+  /** Runs the task on the thread that owns global state, right away if this is that thread. */
+  void runGlobal(Runnable task);
+
+  /** Runs the task on the global thread every period ticks, starting after delay ticks. */
+  void runGlobalTimer(Runnable task, long delay, long period);
+
+  /**
+   * Runs the task on the thread that owns the entity, right away if this is that thread. The task
+   * does not run if the entity is removed before it can.
+   */
+  void runForEntity(Entity entity, Runnable task);
+
+  /** Returns true if the current thread owns global state, such as the console. */
+  boolean isGlobalThread();
+}
@@ -1,34 +1,71 @@
 package com.snowypeaksystems.mobactions.util;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.bukkit.ChatColor;
 
 /**
- * Implementation of IMessage.
+ * Implementation of IMessage. The message is split into the text around each token once, when it
+ * is created, so replacing tokens only has to append the pieces and the arguments in order.
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public class Message implements IMessage {
-  private final String message;
+  private static final String TOKEN_STR = String.valueOf(new char[]{TOKEN_PREFIX, TOKEN_SUFFIX});
+
   private final int tokens;
-  private final String tokenStr;
+  private final String[] before;
+  private final String[] after;
+  private final String tail;
+  private final String cached;
+  private final int length;
+  // Typed as Object so this class still loads on servers without Adventure
+  private volatile Object componentMessage;
 
   Message(String message) {
-    this.tokenStr = String.valueOf(new char[]{TOKEN_PREFIX, TOKEN_SUFFIX});
-    this.message = ChatColor.translateAlternateColorCodes('&', message);
+    String colorized = ChatColor.translateAlternateColorCodes('&', message);
+    List<String> before = new ArrayList<>();
+    List<String> after = new ArrayList<>();
+    int start = 0;
+    int[] positions = new int[2];
+    StringBuilder formatCodes = new StringBuilder();
 
-    int tokens = 0;
-    for (int i = 0, j = 0; i < message.length(); i++) {
-      if (message.charAt(i) == tokenStr.charAt(j) && (i == 0 || message.charAt(i - 1) != '\\'
-          || (i >= 2 && message.charAt(i - 2) == '\\'))) {
+    for (int i = 0, j = 0; i < colorized.length(); i++) {
+      if (Tokens.isUnescaped(colorized, i, TOKEN_STR.charAt(j))) {
+        positions[j] = i;
         j++;
       }
 
-      if (j == 2) {
+      if (j == positions.length) {
+        int end = Tokens.getLiteralEnd(colorized, positions[0]);
+        String segment = Tokens.unescape(colorized.substring(start, end));
+        formatCodes.append(ChatColor.getLastColors(segment));
+        String tokenFormat = colorized.substring(positions[0] + 1, positions[1]);
+
+        // Formatted tokens reset the color, then restore every format code used before them
+        if (tokenFormat.length() > 0) {
+          before.add(segment + ChatColor.RESET + tokenFormat);
+          after.add(ChatColor.RESET + formatCodes.toString());
+        } else {
+          before.add(segment);
+          after.add("");
+        }
+
+        start = i + 1;
         j = 0;
-        tokens++;
       }
     }
 
-    this.tokens = tokens;
+    this.tokens = before.size();
+    this.before = before.toArray(new String[0]);
+    this.after = after.toArray(new String[0]);
+    this.tail = Tokens.unescape(colorized.substring(start));
+    this.cached = tokens == 0 ? tail : null;
+
+    int length = tail.length();
+    for (int i = 0; i < tokens; i++) {
+      length += this.before[i].length() + this.after[i].length();
+    }
+    this.length = length;
   }
 
   @Override
@@ -38,52 +75,43 @@ public class Message implements IMessage {
           "Expected " + tokens + " arguments, but found " + args.length);
     }
 
-    return replaceAndColorize(args);
+    if (cached != null) {
+      return cached;
+    }
+
+    StringBuilder newString = new StringBuilder(length + 16 * tokens);
+    for (int i = 0; i < tokens; i++) {
+      newString.append(before[i]).append(ChatColor.translateAlternateColorCodes('&', args[i]))
+          .append(after[i]);
+    }
+
+    return newString.append(tail).toString();
   }
 
-  private String replaceAndColorize(String... args) {
-    int start = 0;
-    int tokens = 0;
-    int[] positions = new int[2];
-    StringBuilder newString = new StringBuilder();
-    StringBuilder formatCodes = new StringBuilder();
-    for (int i = 0, j = 0; i < message.length(); i++) {
-      if (message.charAt(i) == tokenStr.charAt(j) && (i == 0 || message.charAt(i - 1) != '\\'
-          || (i >= 2 && message.charAt(i - 2) == '\\'))) {
-        positions[j] = i;
-        j++;
-      }
+  int getTokenCount() {
+    return tokens;
+  }
 
-      if (j == positions.length) {
-        if (args.length > tokens) {
-          int end = positions[0];
-          if (positions[0] >= 2 && message.startsWith("\\\\", positions[0] - 2)) {
-            end = positions[0] - 1;
-          }
-          String segment = message.substring(start, end)
-              .replaceAll("(?<!\\\\)\\\\\\{", "{").replaceAll("(?<!\\\\)\\\\}", "}");
-          formatCodes.append(ChatColor.getLastColors(segment));
-          newString.append(segment);
-          String tokenFormat = message.substring(positions[0] + 1, positions[1]);
-          String formatted = ChatColor.translateAlternateColorCodes('&', args[tokens]);
-          if (tokenFormat.length() > 0) {
-            newString.append(ChatColor.RESET).append(tokenFormat).append(formatted)
-                .append(ChatColor.RESET).append(formatCodes.toString());
-          } else {
-            newString.append(formatted);
-          }
-
-          start = i + 1;
-        }
+  /** Returns the text before the token at index, including the token's format codes. */
+  String getBefore(int index) {
+    return before[index];
+  }
 
-        j = 0;
-        tokens++;
-      }
-    }
+  /** Returns the text after the token at index, which restores the format codes. */
+  String getAfter(int index) {
+    return after[index];
+  }
+
+  /** Returns the text after the last token. */
+  String getTail() {
+    return tail;
+  }
 
-    newString.append(message.substring(start).replaceAll("(?<!\\\\)\\\\\\{", "{")
-        .replaceAll("(?<!\\\\)\\\\}", "}"));
+  Object getComponentMessage() {
+    return componentMessage;
+  }
 
-    return newString.toString();
+  void setComponentMessage(Object componentMessage) {
+    this.componentMessage = componentMessage;
   }
 }
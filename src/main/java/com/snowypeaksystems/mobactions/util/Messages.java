@@ -1,7 +1,10 @@
 package com.snowypeaksystems.mobactions.util;
 
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import io.papermc.lib.PaperLib;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
@@ -16,6 +19,7 @@ import org.bukkit.configuration.file.YamlConfiguration;
 public final class Messages {
   private static File dataDir;
   private static final Map<String, Message> messages = new HashMap<>();
+  private static boolean components;
 
   public static void setDataDir(File dataDir) {
     Messages.dataDir = dataDir;
@@ -30,7 +34,8 @@ public final class Messages {
 
     if (dataDir != null) {
       String messagesLoc = dataDir.getPath() + "/messages.yml";
-      DebugLogger.getLogger().log("Attempting to load and update message file at " + messagesLoc);
+      DebugLogger.getLogger().log(
+          () -> "Attempting to load and update message file at " + messagesLoc);
 
       try {
         rawMessages.load(messagesLoc);
@@ -68,15 +73,107 @@ public final class Messages {
    * @throws IllegalArgumentException If a message is not found for the provided key
    */
   public static String gm(String key, String... args) {
-    if (messages.size() == 0) {
+    return getMessage(key).replace(args);
+  }
+
+  /**
+   * Sends the message for the given key to the user, replacing instances of the token with args.
+   * The message is sent as a Component if components are enabled.
+   * @param user the user to send the message to
+   * @param key the identifier of the message
+   * @param args list of strings to replace tokens with in messages
+   * @throws IllegalArgumentException If a message is not found for the provided key
+   */
+  public static void send(MobActionsUser user, String key, String... args) {
+    if (components) {
+      user.sendMessage(ComponentMessages.gc(key, args));
+    } else {
+      user.sendMessage(gm(key, args));
+    }
+  }
+
+  /**
+   * Sends the message for the given key to every user, replacing instances of the token with args.
+   * The message is only formatted once, no matter how many users it is sent to.
+   * @param users the users to send the message to
+   * @param display where the message is shown to each user
+   * @param key the identifier of the message
+   * @param args list of strings to replace tokens with in messages
+   * @throws IllegalArgumentException If a message is not found for the provided key
+   */
+  public static void broadcast(Collection<? extends MobActionsUser> users, Display display,
+                               String key, String... args) {
+    if (users.isEmpty()) {
+      return;
+    }
+
+    if (components) {
+      ComponentMessages.broadcast(users, display, key, args);
+      return;
+    }
+
+    String message = gm(key, args);
+    for (MobActionsUser user : users) {
+      switch (display) {
+        case ACTION_BAR:
+          user.sendActionBar(message);
+          break;
+        case TITLE:
+          user.sendTitle("", message);
+          break;
+        default:
+          user.sendMessage(message);
+      }
+    }
+  }
+
+  /** Sends messages as Adventure Components if enabled and the server supports them. */
+  public static void setComponentsEnabled(boolean enabled) {
+    components = enabled && PaperLib.isPaper() && hasAdventure();
+  }
+
+  public static boolean isComponentsEnabled() {
+    return components;
+  }
+
+  static Message getMessage(String key) {
+    if (messages.isEmpty()) {
       initialize();
     }
 
-    if (!messages.containsKey(key)) {
+    Message message = messages.get(key);
+    if (message == null) {
       throw new IllegalArgumentException("Message for " + key + " not found");
     }
 
-    return messages.get(key).replace(args);
+    return message;
+  }
+
+  private static boolean hasAdventure() {
+    try {
+      Class.forName("net.kyori.adventure.text.Component", false, Messages.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  /** Where a broadcast message is shown to each user. */
+  public enum Display {
+    CHAT, ACTION_BAR, TITLE;
+
+    /** Returns the display with the provided name, such as "action-bar", or CHAT if none match. */
+    public static Display fromString(String name) {
+      if (name != null) {
+        for (Display display : values()) {
+          if (display.name().replace('_', '-').equalsIgnoreCase(name.replace('_', '-'))) {
+            return display;
+          }
+        }
+      }
+
+      return CHAT;
+    }
   }
 
   private static Map<String, Object> getDefaults() {
@@ -99,9 +196,18 @@ public final class Messages {
     messages.put("command-reload", "reload");
     messages.put("command-remove", "remove");
     messages.put("command-set", "set");
+    messages.put("command-stats", "stats");
+    messages.put("command-export", "export");
     messages.put("command-warp", "warp");
     messages.put("command-warps", "warps");
 
+    // Stats messages
+    messages.put("stats-header", "&6&lMobActions stats (calls, average, 99th percentile, max):");
+    messages.put("stats-timer", "&e{}: &f{} calls, {} / {} / {} \u00b5s");
+    messages.put("stats-cache", "&eMob cache: &f{} hits, {} misses, {} cached");
+    messages.put("stats-export-success", "&aSaved stats to {&c}!");
+    messages.put("stats-export-error", "&cCouldn't save stats!");
+
     // Command messages
     messages.put("create-command", "&bClick on a mob to set the action!");
     messages.put("edit-cancel", "&eUse \"/mac action cancel\" to cancel");
@@ -118,6 +224,8 @@ public final class Messages {
     messages.put("event-open-text", "&aOpened {&c} event!");
     messages.put("event-cancel-text", "&aCancelled {&c} event!");
     messages.put("event-cancelled-text", "&eThe {&c} event has been cancelled!");
+    messages.put("event-start-queue-text", "&eStarting the {&c} event, please wait for your turn!");
+    messages.put("event-start-progress-text", "&eStarting {&c}: {} of {} players");
     messages.put("event-forcestart-text", "&aStarted {&c} event!");
     messages.put("event-leave-info", "&eClick again to leave the event!");
     messages.put("event-missing-error", "&cThe {} event doesn't exist!");
@@ -174,6 +282,7 @@ public final class Messages {
     messages.put("help-warps-set", "&e/mac warps set <name> - Create a warp");
     messages.put("help-warps-remove", "&e/mac warps remove <name> - Delete a warp");
     messages.put("help-reload", "&e/mac reload - Reloads the plugin's configuration");
+    messages.put("help-stats", "&e/mac stats [export] - Shows or saves timing statistics");
     messages.put("help-page-number", "&6Help page {} / {}:");
     messages.put("help-command-usage", "&6/mac help [page] - Shows the specified help page");
     messages.put("help-command-error", "&cThat page does not exist!");
@@ -199,6 +308,7 @@ public final class Messages {
         + " it.");
     messages.put("warp-save-error", "&cCouldn't save warp \"{}\"!");
     messages.put("warp-success", "&6Welcome to {&c}!");
+    messages.put("warp-world-missing", "&cThe world for warp \"{}\" is not loaded!");
     messages.put("list-message", "&aAvailable warps:");
     messages.put("list-empty-message", "&eNo warps available!");
 
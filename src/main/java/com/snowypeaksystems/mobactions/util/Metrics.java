@@ -0,0 +1,152 @@
+package com.snowypeaksystems.mobactions.util;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Registry of named timers that count calls and record how long they took. Timers should be
+ * looked up once and kept in a field, since recording does not allocate but looking up does.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class Metrics {
+  private static final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+  private Metrics() {}
+
+  /** Returns the timer with the provided name, creating it if it does not exist. */
+  public static Timer timer(String name) {
+    return timers.computeIfAbsent(name, Timer::new);
+  }
+
+  /** Returns every timer, sorted by name. */
+  public static SortedMap<String, Timer> getTimers() {
+    return new TreeMap<>(timers);
+  }
+
+  /** Clears the recorded values of every timer. */
+  public static void reset() {
+    for (Timer timer : timers.values()) {
+      timer.reset();
+    }
+  }
+
+  /**
+   * Counts calls and keeps a histogram of their durations in power of two buckets, so recording
+   * a duration only updates a few atomic counters.
+   */
+  public static final class Timer {
+    private static final int BUCKETS = Long.SIZE;
+
+    private final String name;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    Timer(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    /** Returns the start time to pass to stop. */
+    public long start() {
+      return System.nanoTime();
+    }
+
+    /** Records the time since start, which was returned by start. */
+    public void stop(long start) {
+      record(System.nanoTime() - start);
+    }
+
+    /** Records a call that took the provided number of nanoseconds. */
+    public void record(long nanos) {
+      long duration = Math.max(0, nanos);
+      count.incrementAndGet();
+      total.addAndGet(duration);
+      buckets.incrementAndGet(getBucket(duration));
+
+      long current = max.get();
+      while (duration > current && !max.compareAndSet(current, duration)) {
+        current = max.get();
+      }
+    }
+
+    public long getCount() {
+      return count.get();
+    }
+
+    public long getTotalNanos() {
+      return total.get();
+    }
+
+    public long getMaxNanos() {
+      return max.get();
+    }
+
+    /** Returns the average duration in nanoseconds, or 0 if nothing was recorded. */
+    public long getMeanNanos() {
+      long calls = count.get();
+      return calls == 0 ? 0 : total.get() / calls;
+    }
+
+    /**
+     * Returns an upper bound of the duration in nanoseconds that the provided fraction of calls
+     * did not exceed, accurate to a power of two. Returns 0 if nothing was recorded.
+     */
+    public long getPercentileNanos(double fraction) {
+      long[] counts = new long[BUCKETS];
+      long calls = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] = buckets.get(i);
+        calls += counts[i];
+      }
+
+      long target = (long) Math.ceil(fraction * calls);
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += counts[i];
+        if (seen >= target && seen > 0) {
+          return Math.min(getUpperBound(i), getMaxNanos());
+        }
+      }
+
+      return 0;
+    }
+
+    void reset() {
+      count.set(0);
+      total.set(0);
+      max.set(0);
+      for (int i = 0; i < BUCKETS; i++) {
+        buckets.set(i, 0);
+      }
+    }
+
+    /** Returns a snapshot of the timer's values in microseconds. */
+    public Map<String, Long> toMap() {
+      return Map.of(
+          "count", getCount(),
+          "mean-us", getMeanNanos() / 1000,
+          "p50-us", getPercentileNanos(0.5) / 1000,
+          "p99-us", getPercentileNanos(0.99) / 1000,
+          "max-us", getMaxNanos() / 1000);
+    }
+
+    // Bucket i holds durations from 2^(i-1) up to, but not including, 2^i
+    static int getBucket(long nanos) {
+      return Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static long getUpperBound(int bucket) {
+      return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+  }
+}
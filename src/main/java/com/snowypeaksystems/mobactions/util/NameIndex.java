@@ -0,0 +1,73 @@
+package com.snowypeaksystems.mobactions.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * A sorted set of lower case names that finds the names starting with a prefix without scanning
+ * the others. Safe to read while another thread changes it, and replacing every name swaps in a
+ * new set, so readers see either all of the old names or all of the new ones.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class NameIndex {
+  private volatile NavigableSet<String> names = new ConcurrentSkipListSet<>();
+
+  public void add(String name) {
+    names.add(name.toLowerCase());
+  }
+
+  public void remove(String name) {
+    names.remove(name.toLowerCase());
+  }
+
+  /**
+   * Replaces every name in the index with the provided names. Names added by other threads while
+   * this runs may be lost, so callers must not change the index while replacing it.
+   */
+  public void replaceAll(Collection<String> names) {
+    NavigableSet<String> replacement = new ConcurrentSkipListSet<>();
+    for (String name : names) {
+      replacement.add(name.toLowerCase());
+    }
+
+    this.names = replacement;
+  }
+
+  public void clear() {
+    names = new ConcurrentSkipListSet<>();
+  }
+
+  public int size() {
+    return names.size();
+  }
+
+  /**
+   * Returns up to limit names that start with prefix, ignoring case, and pass filter, in order.
+   * @param prefix the text the names must start with
+   * @param limit the maximum number of names to return
+   * @param filter returns true for names that should be included
+   * @return the matching names, sorted
+   */
+  public List<String> complete(String prefix, int limit, Predicate<String> filter) {
+    List<String> matches = new ArrayList<>(Math.min(limit, 16));
+    String from = prefix.toLowerCase();
+
+    // Every name starting with the prefix sorts between the prefix and the prefix plus the
+    // largest character
+    for (String name : names.subSet(from, true, from + Character.MAX_VALUE, true)) {
+      if (matches.size() >= limit) {
+        break;
+      }
+
+      if (filter.test(name)) {
+        matches.add(name);
+      }
+    }
+
+    return matches;
+  }
+}
@@ -0,0 +1,40 @@
+package com.snowypeaksystems.mobactions.util;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * ITaskScheduler for servers with one main thread, which runs every task on that thread.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class TaskScheduler implements ITaskScheduler {
+  private final Plugin plugin;
+
+  public TaskScheduler(Plugin plugin) {
+    this.plugin = plugin;
+  }
+
+  @Override
+  public void runGlobal(Runnable task) {
+    if (isGlobalThread()) {
+      task.run();
+    } else {
+      plugin.getServer().getScheduler().runTask(plugin, task);
+    }
+  }
+
+  @Override
+  public void runGlobalTimer(Runnable task, long delay, long period) {
+    plugin.getServer().getScheduler().runTaskTimer(plugin, task, delay, period);
+  }
+
+  @Override
+  public void runForEntity(Entity entity, Runnable task) {
+    runGlobal(task);
+  }
+
+  @Override
+  public boolean isGlobalThread() {
+    return plugin.getServer().isPrimaryThread();
+  }
+}
@@ -0,0 +1,171 @@
+package com.snowypeaksystems.mobactions.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hashed timer wheel that runs tasks after a number of ticks. Scheduling and cancelling take
+ * constant time and each tick only visits the timeouts that hash to the current slot, so one
+ * repeating task can drive any number of timeouts. Timeouts further away than the number of slots
+ * stay in their slot until their deadline. Timeouts can be scheduled and cancelled from any
+ * thread, but tasks always run on the thread that calls tick.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class TimerWheel {
+  public static final int DEFAULT_SLOTS = 512;
+
+  private final Timeout[] slots;
+  private final int mask;
+  private long currentTick;
+  private int size;
+
+  public TimerWheel() {
+    this(DEFAULT_SLOTS);
+  }
+
+  /** Creates a wheel with slotCount slots, which must be a power of two. */
+  public TimerWheel(int slotCount) {
+    if (slotCount < 1 || Integer.bitCount(slotCount) != 1) {
+      throw new IllegalArgumentException("Argument \"slotCount\" must be a power of two");
+    }
+
+    this.slots = new Timeout[slotCount];
+    this.mask = slotCount - 1;
+  }
+
+  /** Runs task after delay ticks, or on the next tick if delay is less than 1. */
+  public synchronized Timeout schedule(long delay, Runnable task) {
+    Timeout timeout = new Timeout(this, currentTick + Math.max(1, delay), task);
+    link(timeout);
+    return timeout;
+  }
+
+  /** Advances the wheel by one tick and runs every task that is due. */
+  public void tick() {
+    // Unlink first, so tasks can schedule and cancel timeouts while the due ones run
+    List<Timeout> due = null;
+    synchronized (this) {
+      currentTick++;
+      Timeout timeout = slots[(int) (currentTick & mask)];
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.deadline <= currentTick) {
+          unlink(timeout);
+          if (due == null) {
+            due = new ArrayList<>();
+          }
+          due.add(timeout);
+        }
+        timeout = next;
+      }
+    }
+
+    // Timeouts are added to the front of their slot, so run them in reverse to keep their order
+    if (due != null) {
+      for (int i = due.size() - 1; i >= 0; i--) {
+        Timeout expired = due.get(i);
+        if (expired.expire()) {
+          expired.task.run();
+        }
+      }
+    }
+  }
+
+  public synchronized long getCurrentTick() {
+    return currentTick;
+  }
+
+  /** Returns the number of scheduled timeouts that have not run or been cancelled. */
+  public synchronized int size() {
+    return size;
+  }
+
+  private void link(Timeout timeout) {
+    int index = (int) (timeout.deadline & mask);
+    timeout.next = slots[index];
+    if (timeout.next != null) {
+      timeout.next.prev = timeout;
+    }
+
+    slots[index] = timeout;
+    timeout.linked = true;
+    size++;
+  }
+
+  private void unlink(Timeout timeout) {
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      slots[(int) (timeout.deadline & mask)] = timeout.next;
+    }
+
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.linked = false;
+    size--;
+  }
+
+  /** A task scheduled on a TimerWheel. */
+  public static final class Timeout {
+    private final TimerWheel wheel;
+    private final long deadline;
+    private final Runnable task;
+    private Timeout prev;
+    private Timeout next;
+    private boolean linked;
+    private boolean cancelled;
+    private boolean expired;
+
+    private Timeout(TimerWheel wheel, long deadline, Runnable task) {
+      this.wheel = wheel;
+      this.deadline = deadline;
+      this.task = task;
+    }
+
+    /** Stops the task from running. Returns false if it already ran or was cancelled. */
+    public boolean cancel() {
+      synchronized (wheel) {
+        if (cancelled || expired) {
+          return false;
+        }
+
+        cancelled = true;
+        if (linked) {
+          wheel.unlink(this);
+        }
+
+        return true;
+      }
+    }
+
+    public boolean isCancelled() {
+      synchronized (wheel) {
+        return cancelled;
+      }
+    }
+
+    /** Returns true if the task ran or is running. */
+    public boolean isExpired() {
+      synchronized (wheel) {
+        return expired;
+      }
+    }
+
+    // Returns true if the task should run, false if it was cancelled first
+    private boolean expire() {
+      synchronized (wheel) {
+        expired = !cancelled;
+        return expired;
+      }
+    }
+
+    /** Returns the tick of the wheel that the task runs on. */
+    public long getDeadline() {
+      return deadline;
+    }
+  }
+}
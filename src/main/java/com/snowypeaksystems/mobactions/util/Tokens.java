@@ -0,0 +1,39 @@
+package com.snowypeaksystems.mobactions.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Escaping rules shared by messages and commands, where a backslash before a brace makes it
+ * literal and two backslashes before a brace are a literal backslash followed by a token.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class Tokens {
+  private static final Pattern ESCAPED_PREFIX = Pattern.compile("(?<!\\\\)\\\\\\{");
+  private static final Pattern ESCAPED_SUFFIX = Pattern.compile("(?<!\\\\)\\\\}");
+
+  private Tokens() {}
+
+  /** Returns true if the character at index is c and is not escaped. */
+  public static boolean isUnescaped(String text, int index, char c) {
+    return text.charAt(index) == c && (index == 0 || text.charAt(index - 1) != '\\'
+        || (index >= 2 && text.charAt(index - 2) == '\\'));
+  }
+
+  /**
+   * Returns the end of the literal text before the token starting at index, which drops the
+   * backslash that escapes a literal backslash right before the token.
+   */
+  public static int getLiteralEnd(String text, int index) {
+    if (index >= 2 && text.startsWith("\\\\", index - 2)) {
+      return index - 1;
+    }
+
+    return index;
+  }
+
+  /** Replaces escaped braces in the literal text with the braces themselves. */
+  public static String unescape(String literal) {
+    return ESCAPED_SUFFIX.matcher(ESCAPED_PREFIX.matcher(literal).replaceAll("{"))
+        .replaceAll("}");
+  }
+}
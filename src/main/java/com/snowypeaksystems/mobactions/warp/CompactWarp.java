@@ -0,0 +1,48 @@
+package com.snowypeaksystems.mobactions.warp;
+
+import java.io.IOException;
+import org.bukkit.Location;
+
+/**
+ * Implementation of IWarp stored by a CompactWarpManager alongside all other warps.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class CompactWarp implements IWarp {
+  private final CompactWarpManager manager;
+  private final String name;
+  private final DeferredLocation dest;
+
+  CompactWarp(CompactWarpManager manager, String name, Location dest) {
+    this(manager, name, new DeferredLocation(dest));
+  }
+
+  CompactWarp(CompactWarpManager manager, String name, DeferredLocation dest) {
+    this.manager = manager;
+    this.name = name;
+    this.dest = dest;
+  }
+
+  DeferredLocation getLocation() {
+    return dest;
+  }
+
+  @Override
+  public String getAlias() {
+    return name;
+  }
+
+  @Override
+  public Location getDestination() {
+    return dest.get();
+  }
+
+  @Override
+  public void save() throws IOException {
+    manager.persist();
+  }
+
+  @Override
+  public boolean delete() {
+    return manager.remove(this);
+  }
+}
@@ -0,0 +1,298 @@
+package com.snowypeaksystems.mobactions.warp;
+
+import com.snowypeaksystems.mobactions.data.FileData;
+import com.snowypeaksystems.mobactions.data.IFileDataWriter;
+import com.snowypeaksystems.mobactions.util.AtomicFile;
+import com.snowypeaksystems.mobactions.util.NameIndex;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * IWarpManager that stores every warp in a single binary file, which is read in one pass. Changes
+ * lock the manager, so each saved snapshot includes every change made before it, while warps are
+ * read without locking.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class CompactWarpManager implements IWarpManager {
+  private static final int MAGIC = 0x4D415750;
+  private static final int VERSION = 1;
+
+  private final File storeFile;
+  private final IFileDataWriter writer;
+  private final Map<String, CompactWarp> warps;
+  private final NameIndex names;
+  private final Map<String, List<CompactWarp>> pending;
+
+  /**
+   * Construct a new CompactWarpManager that stores warps in storeFile. If storeFile does not exist
+   * and legacyDir contains warps stored by WarpManager, they are migrated to storeFile and
+   * legacyDir is renamed so the migration only happens once.
+   * @param storeFile file to store warps in
+   * @param legacyDir folder used by WarpManager, may be null
+   * @param writer the writer used to save the store
+   * @throws IOException if migrating the legacy warps fails
+   */
+  public CompactWarpManager(File storeFile, File legacyDir, IFileDataWriter writer)
+      throws IOException {
+    this.storeFile = storeFile;
+    this.writer = writer;
+    this.warps = new ConcurrentHashMap<>();
+    this.names = new NameIndex();
+    this.pending = new HashMap<>();
+
+    if (!storeFile.exists() && legacyDir != null && legacyDir.isDirectory()) {
+      migrate(legacyDir);
+    }
+
+    reload();
+  }
+
+  @Override
+  public synchronized CompletableFuture<IWarp> makeWarp(String name, Location destination) {
+    CompactWarp warp = new CompactWarp(this, name.toLowerCase(), destination);
+
+    warps.put(warp.getAlias(), warp);
+    names.add(warp.getAlias());
+
+    try {
+      return persist().thenApply(result -> warp);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  @Override
+  public IWarp getWarp(String name) {
+    return warps.get(name.toLowerCase());
+  }
+
+  @Override
+  public void unregister(String name) {
+    CompactWarp warp = warps.get(name.toLowerCase());
+
+    if (warp != null) {
+      remove(warp);
+    }
+  }
+
+  @Override
+  public boolean exists(String name) {
+    return warps.containsKey(name.toLowerCase());
+  }
+
+  @Override
+  public Set<String> getLoadedWarpNames() {
+    return warps.keySet();
+  }
+
+  @Override
+  public List<String> completeWarpNames(String prefix, int limit, Predicate<String> filter) {
+    return names.complete(prefix, limit, filter);
+  }
+
+  @Override
+  public Set<IWarp> getLoadedWarps() {
+    return new HashSet<>(warps.values());
+  }
+
+  @Override
+  public synchronized void reload() {
+    writer.flush();
+    List<CompactWarp> decoded = new ArrayList<>();
+
+    if (storeFile.exists()) {
+      try {
+        decoded = decode(Files.readAllBytes(storeFile.toPath()));
+      } catch (IOException e) {
+        Bukkit.getLogger().log(Level.SEVERE, "Could not read " + storeFile.getName()
+            + ", moving it aside and starting with no warps", e);
+
+        try {
+          Files.move(storeFile.toPath(), storeFile.toPath().resolveSibling(
+              storeFile.getName() + ".corrupt"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+          Bukkit.getLogger().log(Level.SEVERE, "Could not move " + storeFile.getName(), ex);
+        }
+      }
+    }
+
+    Map<String, CompactWarp> loaded = new HashMap<>();
+    for (CompactWarp warp : decoded) {
+      loaded.put(warp.getAlias(), warp);
+    }
+
+    // Replace the warps without emptying the map, since it is read while reloading
+    warps.keySet().retainAll(loaded.keySet());
+    warps.putAll(loaded);
+    names.replaceAll(loaded.keySet());
+    pending.clear();
+
+    // Warps are bound to their world when used or when the world loads
+    for (CompactWarp warp : loaded.values()) {
+      if (!warp.getLocation().isBound()) {
+        pending.computeIfAbsent(warp.getLocation().getWorldName(), k -> new ArrayList<>())
+            .add(warp);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void loadWorld(String worldName) {
+    List<CompactWarp> unbound = pending.remove(worldName);
+
+    if (unbound != null) {
+      for (CompactWarp warp : unbound) {
+        warp.getDestination();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    writer.close();
+  }
+
+  /** Queues a write of every warp to the store, returning the pending write. */
+  synchronized CompletableFuture<Void> persist() throws IOException {
+    return writer.save(storeFile.getName(), new Snapshot(encode()));
+  }
+
+  /** Removes the warp from the store. Returns true if it was stored, false otherwise. */
+  synchronized boolean remove(CompactWarp warp) {
+    boolean removed = warps.remove(warp.getAlias(), warp);
+
+    if (removed) {
+      names.remove(warp.getAlias());
+
+      try {
+        persist();
+      } catch (IOException e) {
+        Bukkit.getLogger().log(Level.SEVERE, "Could not save " + storeFile.getName(), e);
+      }
+    }
+
+    return removed;
+  }
+
+  private void migrate(File legacyDir) throws IOException {
+    File[] files = legacyDir.listFiles();
+
+    if (files == null) {
+      return;
+    }
+
+    for (File f : files) {
+      if (f.getName().startsWith(".") || f.isDirectory()) {
+        continue;
+      }
+
+      YamlConfiguration config = YamlConfiguration.loadConfiguration(f);
+      String name = config.getString("name");
+      String world = config.getString("world");
+      if (name == null || world == null || !config.isSet("x") || !config.isSet("y")
+          || !config.isSet("z") || !config.isSet("yaw") || !config.isSet("pitch")) {
+        Bukkit.getLogger().log(Level.WARNING, "Skipping invalid warp file " + f.getName());
+        continue;
+      }
+
+      warps.put(name.toLowerCase(), new CompactWarp(this, name.toLowerCase(),
+          new DeferredLocation(world, config.getDouble("x"), config.getDouble("y"),
+              config.getDouble("z"), (float) config.getDouble("yaw"),
+              (float) config.getDouble("pitch"))));
+    }
+
+    AtomicFile.write(storeFile, encode());
+
+    File migrated = new File(legacyDir.getParentFile(), legacyDir.getName() + "-migrated");
+    if (!legacyDir.renameTo(migrated)) {
+      Bukkit.getLogger().log(Level.WARNING, "Could not rename " + legacyDir.getName()
+          + " after migrating warps to " + storeFile.getName());
+    }
+
+    Bukkit.getLogger().log(Level.INFO, "Migrated " + warps.size() + " warps to "
+        + storeFile.getName());
+    warps.clear();
+  }
+
+  private byte[] encode() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * (warps.size() + 1));
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(warps.size());
+
+      for (CompactWarp warp : warps.values()) {
+        DeferredLocation loc = warp.getLocation();
+        out.writeUTF(warp.getAlias());
+        out.writeUTF(loc.getWorldName());
+        out.writeDouble(loc.getX());
+        out.writeDouble(loc.getY());
+        out.writeDouble(loc.getZ());
+        out.writeFloat(loc.getYaw());
+        out.writeFloat(loc.getPitch());
+      }
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private List<CompactWarp> decode(byte[] bytes) throws IOException {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      if (in.readInt() != MAGIC) {
+        throw new IOException("Not a warp store");
+      }
+
+      int version = in.readInt();
+      if (version != VERSION) {
+        throw new IOException("Unsupported warp store version " + version);
+      }
+
+      int count = in.readInt();
+      List<CompactWarp> decoded = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        String name = in.readUTF();
+        decoded.add(new CompactWarp(this, name, new DeferredLocation(in.readUTF(),
+            in.readDouble(), in.readDouble(), in.readDouble(), in.readFloat(), in.readFloat())));
+      }
+
+      return decoded;
+    }
+  }
+
+  private class Snapshot implements FileData {
+    private final byte[] bytes;
+
+    Snapshot(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public void save() throws IOException {
+      AtomicFile.write(storeFile, bytes);
+    }
+
+    @Override
+    public boolean delete() {
+      return storeFile.delete();
+    }
+  }
+}
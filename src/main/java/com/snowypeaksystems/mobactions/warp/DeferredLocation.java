@@ -0,0 +1,83 @@
+package com.snowypeaksystems.mobactions.warp;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * A Location stored by world name that is bound to its World the first time it is needed while
+ * the world is loaded, and bound again if the world is unloaded and loaded again.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+final class DeferredLocation {
+  private final String worldName;
+  private final double x;
+  private final double y;
+  private final double z;
+  private final float yaw;
+  private final float pitch;
+  private volatile Location location;
+
+  DeferredLocation(Location location) {
+    this(location.getWorld().getName(), location.getX(), location.getY(), location.getZ(),
+        location.getYaw(), location.getPitch());
+    this.location = location;
+  }
+
+  DeferredLocation(String worldName, double x, double y, double z, float yaw, float pitch) {
+    this.worldName = worldName;
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.yaw = yaw;
+    this.pitch = pitch;
+  }
+
+  /** Returns the Location, or null if its world is not loaded. */
+  Location get() {
+    Location loc = location;
+    if (loc != null && loc.isWorldLoaded()) {
+      return loc;
+    }
+
+    World world = Bukkit.getWorld(worldName);
+    if (world == null) {
+      location = null;
+      return null;
+    }
+
+    loc = new Location(world, x, y, z, yaw, pitch);
+    location = loc;
+    return loc;
+  }
+
+  /** Returns true if the Location is bound to a loaded world, without looking the world up. */
+  boolean isBound() {
+    Location loc = location;
+    return loc != null && loc.isWorldLoaded();
+  }
+
+  String getWorldName() {
+    return worldName;
+  }
+
+  double getX() {
+    return x;
+  }
+
+  double getY() {
+    return y;
+  }
+
+  double getZ() {
+    return z;
+  }
+
+  float getYaw() {
+    return yaw;
+  }
+
+  float getPitch() {
+    return pitch;
+  }
+}
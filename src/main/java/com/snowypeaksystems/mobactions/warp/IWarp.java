@@ -9,6 +9,6 @@ import org.bukkit.Location;
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public interface IWarp extends FileData, AliasedData {
-  /** Returns the destination Location for this warp. */
+  /** Returns the destination Location for this warp, or null if its world is not loaded. */
   Location getDestination();
 }
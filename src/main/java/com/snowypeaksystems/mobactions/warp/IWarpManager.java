@@ -1,7 +1,9 @@
 package com.snowypeaksystems.mobactions.warp;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import org.bukkit.Location;
 
 /**
@@ -9,8 +11,11 @@ import org.bukkit.Location;
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public interface IWarpManager {
-  /** Create an IWarp with the provided name and destination. */
-  IWarp makeWarp(String name, Location destination) throws IOException;
+  /**
+   * Create an IWarp with the provided name and destination. The warp can be used right away, and
+   * the returned future completes with it once it is saved, or exceptionally if saving failed.
+   */
+  CompletableFuture<IWarp> makeWarp(String name, Location destination);
 
   /** Returns the IWarp with the given name if present, or null otherwise. */
   IWarp getWarp(String name);
@@ -24,9 +29,21 @@ public interface IWarpManager {
   /** Returns a set of loaded warp names. */
   Set<String> getLoadedWarpNames();
 
+  /**
+   * Returns up to limit sorted warp names that start with prefix and pass filter, without
+   * looking at warps that do not start with prefix.
+   */
+  List<String> completeWarpNames(String prefix, int limit, Predicate<String> filter);
+
   /** Returns a set of loaded warps. */
   Set<IWarp> getLoadedWarps();
 
   /** Reloads the warp list from storage. */
   void reload();
+
+  /** Loads the warps that could not be loaded because the named world was not loaded yet. */
+  void loadWorld(String worldName);
+
+  /** Writes any pending changes to storage. Call before the plugin is disabled. */
+  void close();
 }
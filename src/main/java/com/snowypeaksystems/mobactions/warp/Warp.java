@@ -1,10 +1,12 @@
 package com.snowypeaksystems.mobactions.warp;
 
+import com.snowypeaksystems.mobactions.data.FileIndex;
+import com.snowypeaksystems.mobactions.util.AtomicFile;
 import java.io.File;
 import java.io.IOException;
+import java.util.logging.Level;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.World;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 /**
@@ -12,11 +14,13 @@ import org.bukkit.configuration.file.YamlConfiguration;
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public class Warp implements IWarp {
-  private final File save;
+  private final FileIndex index;
+  private File save;
   private final String name;
-  private final Location dest;
+  private final DeferredLocation dest;
 
-  Warp(File saveFile) throws WarpConfigException {
+  Warp(File saveFile, FileIndex index) throws WarpConfigException {
+    this.index = index;
     save = saveFile;
     YamlConfiguration config = YamlConfiguration.loadConfiguration(save);
 
@@ -28,10 +32,11 @@ public class Warp implements IWarp {
     dest = loadLocation(config);
   }
 
-  Warp(String alias, Location dest, File warpFolder) {
-    this.dest = dest;
+  Warp(String alias, Location dest, FileIndex index) {
+    this.index = index;
+    this.dest = new DeferredLocation(dest);
     this.name = alias;
-    save = new File(warpFolder, String.valueOf(name.toLowerCase().hashCode()));
+    save = index.allocate(name);
   }
 
   @Override
@@ -43,18 +48,29 @@ public class Warp implements IWarp {
   public void save() throws IOException {
     YamlConfiguration config = toYamlConfiguration();
 
-    config.save(save);
+    // Our file may have been given to another warp if this one was deleted
+    save = index.allocate(name);
+    AtomicFile.write(save, config.saveToString());
+    index.put(name, save);
   }
 
   @Override
   public boolean delete() {
-    return save.delete();
+    boolean deleted = save.delete();
+
+    try {
+      index.remove(name, save);
+    } catch (IOException e) {
+      Bukkit.getLogger().log(Level.WARNING, "Could not update warp index", e);
+    }
+
+    return deleted;
   }
 
   private YamlConfiguration toYamlConfiguration() {
     YamlConfiguration config = new YamlConfiguration();
     config.set("name", name);
-    config.set("world", dest.getWorld().getName());
+    config.set("world", dest.getWorldName());
     config.set("x", dest.getX());
     config.set("y", dest.getY());
     config.set("z", dest.getZ());
@@ -63,30 +79,36 @@ public class Warp implements IWarp {
     return config;
   }
 
-  private Location loadLocation(YamlConfiguration config)
+  private DeferredLocation loadLocation(YamlConfiguration config)
       throws WarpConfigException {
     if (!config.isSet("world") || !config.isSet("x") || !config.isSet("y")
         || !config.isSet("z") || !config.isSet("yaw") || !config.isSet("pitch")) {
       throw new WarpConfigException("Missing location information for warp " + name);
     }
 
+    // The world is looked up when the warp is used, so warps in unloaded worlds are kept
     String worldName = config.getString("world", "");
-    World world = worldName != null ? Bukkit.getWorld(worldName) : null;
-    if (world == null) {
-      throw new WarpConfigException("World not found!");
-    }
-
     double x = config.getDouble("x");
     double y = config.getDouble("y");
     double z = config.getDouble("z");
     float yaw = (float) config.getDouble("yaw");
     float pitch = (float) config.getDouble("pitch");
 
-    return new Location(world, x, y, z, yaw, pitch);
+    return new DeferredLocation(worldName, x, y, z, yaw, pitch);
+  }
+
+  /** Returns the name of the world the warp is in. */
+  String getWorldName() {
+    return dest.getWorldName();
+  }
+
+  /** Returns true if the warp is bound to a loaded world. */
+  boolean isBound() {
+    return dest.isBound();
   }
 
   @Override
   public Location getDestination() {
-    return dest;
+    return dest.get();
   }
 }
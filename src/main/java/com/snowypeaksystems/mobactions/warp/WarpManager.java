@@ -1,12 +1,21 @@
 package com.snowypeaksystems.mobactions.warp;
 
+import com.snowypeaksystems.mobactions.data.FileDataWriter;
+import com.snowypeaksystems.mobactions.data.FileIndex;
+import com.snowypeaksystems.mobactions.data.IFileDataWriter;
+import com.snowypeaksystems.mobactions.util.NameIndex;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -14,35 +23,56 @@ import org.bukkit.Location;
 /**
  * A map implementation used for warps that persists the keys upon write and remove.
  * This is particularly useful for making sure we keep track of warp locations even after restart.
+ * Warps can be made, removed and read from any thread. Changes, reloads and world loads lock the
+ * manager, so a reload never drops a warp made while it runs. Reads do not lock.
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 public class WarpManager implements IWarpManager {
-  private final File storageDir;
+  private final FileIndex index;
   private final Map<String, IWarp> warps;
+  private final NameIndex names;
+  private final Map<File, Long> modified;
+  private final Map<String, List<Warp>> pending;
+  private final IFileDataWriter writer;
 
   /**
-   * Construct a new WarpManager map from the specified dataDir and server.
+   * Construct a new WarpManager map from the specified dataDir that writes changes immediately.
    * @param dataDir folder for the map to write to
    * @throws FileNotFoundException if dataDir does not exist
    */
   public WarpManager(File dataDir) throws FileNotFoundException {
+    this(dataDir, new FileDataWriter());
+  }
+
+  /**
+   * Construct a new WarpManager map from the specified dataDir that writes changes with writer.
+   * @param dataDir folder for the map to write to
+   * @param writer the writer used to save and delete warps
+   * @throws FileNotFoundException if dataDir does not exist
+   */
+  public WarpManager(File dataDir, IFileDataWriter writer) throws FileNotFoundException {
     if (dataDir == null || !dataDir.exists() || !dataDir.isDirectory()) {
       throw new FileNotFoundException("Warp directory not found");
     }
 
-    this.storageDir = dataDir;
-    this.warps = new HashMap<>();
+    this.index = new FileIndex(dataDir);
+    this.warps = new ConcurrentHashMap<>();
+    this.names = new NameIndex();
+    this.modified = new HashMap<>();
+    this.pending = new HashMap<>();
+    this.writer = writer;
     reload();
   }
 
   @Override
-  public IWarp makeWarp(String name, Location destination) throws IOException {
-    IWarp warp = new Warp(name.toLowerCase(), destination, storageDir);
+  public synchronized CompletableFuture<IWarp> makeWarp(String name, Location destination) {
+    IWarp warp = new Warp(name.toLowerCase(), destination, index);
 
-    warp.save();
+    CompletableFuture<Void> saved = writer.save(warp.getAlias(), warp);
     warps.put(warp.getAlias(), warp);
+    names.add(warp.getAlias());
 
-    return warp;
+    return saved.thenApply(result -> warp);
   }
 
   @Override
@@ -51,13 +81,13 @@ public class WarpManager implements IWarpManager {
   }
 
   @Override
-  public void unregister(String name) {
+  public synchronized void unregister(String name) {
     IWarp warp = warps.remove(name.toLowerCase());
 
     if (warp != null) {
-      warp.delete();
+      names.remove(warp.getAlias());
+      writer.delete(warp.getAlias(), warp);
     }
-
   }
 
   @Override
@@ -70,29 +100,86 @@ public class WarpManager implements IWarpManager {
     return warps.keySet();
   }
 
+  @Override
+  public List<String> completeWarpNames(String prefix, int limit, Predicate<String> filter) {
+    return names.complete(prefix, limit, filter);
+  }
+
   @Override
   public Set<IWarp> getLoadedWarps() {
     return new HashSet<>(warps.values());
   }
 
   @Override
-  public void reload() {
-    warps.clear();
-    File[] files = storageDir.listFiles();
-
-    if (files != null) {
-      for (File f : files) {
-        if (f.getName().startsWith(".") || f.isDirectory()) {
-          continue;
-        }
+  public synchronized void reload() {
+    // Make sure files on disk reflect every change before reading them back
+    writer.flush();
+    index.load();
+
+    try {
+      index.addUnindexed();
+    } catch (IOException e) {
+      Bukkit.getLogger().log(Level.WARNING, "Could not save warp index", e);
+    }
+
+    // Only parse files that changed since they were last loaded
+    Map<String, IWarp> loaded = new HashMap<>();
+    Map<File, Long> loadedModified = new HashMap<>();
+    pending.clear();
+
+    for (Map.Entry<File, String> entry : index.getFiles().entrySet()) {
+      File f = entry.getKey();
+      long lastModified = f.lastModified();
+      IWarp warp = warps.get(entry.getValue());
+      Long previous = modified.get(f);
+
+      if (warp == null || previous == null || previous != lastModified) {
+        warp = load(f);
+      }
 
-        try {
-          IWarp warp = new Warp(f);
-          warps.put(warp.getAlias().toLowerCase(), warp);
-        } catch (WarpConfigException e) {
-          Bukkit.getLogger().log(Level.FINE, e.getMessage(), e);
+      if (warp != null) {
+        loaded.put(warp.getAlias().toLowerCase(), warp);
+        loadedModified.put(f, lastModified);
+
+        if (warp instanceof Warp && !((Warp) warp).isBound()) {
+          pending.computeIfAbsent(((Warp) warp).getWorldName(), k -> new ArrayList<>())
+              .add((Warp) warp);
         }
       }
     }
+
+    // Replace the warps without emptying the map, since it is read while reloading
+    warps.keySet().retainAll(loaded.keySet());
+    warps.putAll(loaded);
+    names.replaceAll(loaded.keySet());
+    modified.clear();
+    modified.putAll(loadedModified);
+  }
+
+  @Override
+  public synchronized void loadWorld(String worldName) {
+    List<Warp> unbound = pending.remove(worldName);
+
+    if (unbound != null) {
+      for (Warp warp : unbound) {
+        warp.getDestination();
+      }
+    }
+  }
+
+  /** Returns the warp stored in f, or null if it is not a valid warp. */
+  private IWarp load(File f) {
+    try {
+      return new Warp(f, index);
+    } catch (WarpConfigException e) {
+      Bukkit.getLogger().log(Level.FINE, e.getMessage(), e);
+    }
+
+    return null;
+  }
+
+  @Override
+  public void close() {
+    writer.close();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.snowypeaksystems.mobactions.warp;
+
+import static com.snowypeaksystems.mobactions.util.Messages.gm;
+
+import com.snowypeaksystems.mobactions.player.PlayerException;
+
+public class WorldNotLoadedException extends PlayerException {
+  public WorldNotLoadedException(String warpName) {
+    super(gm("warp-world-missing", warpName));
+  }
+}
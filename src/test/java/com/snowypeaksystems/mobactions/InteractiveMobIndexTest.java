@@ -0,0 +1,166 @@
+package com.snowypeaksystems.mobactions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.snowypeaksystems.mobactions.data.DataKeys;
+import com.snowypeaksystems.mobactions.data.IWarpData;
+import com.snowypeaksystems.mobactions.data.WarpData;
+import com.snowypeaksystems.mobactions.mock.FakeChunk;
+import com.snowypeaksystems.mobactions.mock.FakeEntity;
+import com.snowypeaksystems.mobactions.mock.FakeWorld;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for InteractiveMobIndex.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class InteractiveMobIndexTest {
+  private DataKeys keys;
+  private World world;
+  private InteractiveMobIndex index;
+
+  @BeforeEach
+  void setUp() {
+    Plugin plugin = (Plugin) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {Plugin.class}, (proxy, method, args) -> {
+          if (method.getName().equals("getName")) {
+            return "MobActions";
+          }
+
+          throw new UnsupportedOperationException(method.getName());
+        });
+
+    keys = DataKeys.of(plugin);
+    world = new FakeWorld();
+    index = new InteractiveMobIndex(plugin);
+  }
+
+  @Test
+  void scan() {
+    FakeEntity warp = makeWarp("spawn", 5, 5);
+    FakeEntity ordinary = makeEntity(6, 6);
+    index.scan(FakeChunk.create(world, 0, 0, warp.getEntity(), ordinary.getEntity()));
+
+    assertTrue(index.contains(warp.getEntity()));
+    assertFalse(index.contains(ordinary.getEntity()));
+    assertNull(index.get(ordinary.getEntity()));
+    assertEquals(1, index.size());
+
+    IndexedMob mob = index.get(warp.getEntity());
+    assertEquals(IWarpData.WARP_KEY, mob.getTypeKey());
+    assertEquals("spawn", mob.getAlias());
+    assertEquals(world.getUID(), mob.getWorldId());
+  }
+
+  @Test
+  void unload() {
+    FakeEntity first = makeWarp("spawn", 5, 5);
+    FakeEntity second = makeWarp("spawn", 20, 5);
+    Chunk chunk = FakeChunk.create(world, 0, 0, first.getEntity());
+    index.scan(chunk);
+    index.scan(FakeChunk.create(world, 1, 0, second.getEntity()));
+
+    index.unload(chunk);
+    assertFalse(index.contains(first.getEntity()));
+    assertTrue(index.contains(second.getEntity()));
+    assertTrue(index.getMobs(chunk).isEmpty());
+    assertEquals(1, index.getMobs(IWarpData.WARP_KEY, "spawn").size());
+  }
+
+  @Test
+  void getMobs() {
+    FakeEntity first = makeWarp("spawn", 5, 5);
+    FakeEntity second = makeWarp("Spawn", 40, -5);
+    FakeEntity other = makeWarp("arena", 6, 6);
+    Chunk chunk = FakeChunk.create(world, 0, 0, first.getEntity(), other.getEntity());
+    index.scan(chunk);
+    index.scan(FakeChunk.create(world, 2, -1, second.getEntity()));
+
+    assertEquals(2, index.getMobs(chunk).size());
+    assertEquals(2, index.getMobs(IWarpData.WARP_KEY, "SPAWN").size());
+    assertEquals(1, index.getMobs(IWarpData.WARP_KEY, "arena").size());
+    assertTrue(index.getMobs(IWarpData.WARP_KEY, "missing").isEmpty());
+    assertEquals(3, index.getMobs(world, 0, -1, 2, 0).size());
+    assertEquals(1, index.getMobs(world, 2, 0, 1, -1).size());
+    assertTrue(index.getMobs(new FakeWorld(), 0, -1, 2, 0).isEmpty());
+  }
+
+  @Test
+  void update() {
+    FakeEntity warp = makeWarp("spawn", 5, 5);
+    Chunk first = FakeChunk.create(world, 0, 0, warp.getEntity());
+    Chunk second = FakeChunk.create(world, 1, 0);
+    index.scan(first);
+
+    // The index keeps the chunk the mob was in until it is updated
+    warp.setLocation(new Location(world, 20, 64, 5));
+    assertEquals(1, index.getMobs(first).size());
+    assertTrue(index.getMobs(second).isEmpty());
+
+    index.update(warp.getEntity());
+    assertTrue(index.getMobs(first).isEmpty());
+    assertEquals(List.of(warp.getEntity().getUniqueId()), ids(index.getMobs(second)));
+    assertEquals(1, index.getMobs(IWarpData.WARP_KEY, "spawn").size());
+
+    // Ordinary entities are not added by updates
+    FakeEntity ordinary = makeEntity(5, 5);
+    index.update(ordinary.getEntity());
+    assertFalse(index.contains(ordinary.getEntity()));
+  }
+
+  @Test
+  void addAndRemove() {
+    FakeEntity entity = makeEntity(5, 5);
+    index.add(entity.getEntity(), new WarpData("spawn"));
+
+    assertTrue(index.contains(entity.getEntity()));
+    assertEquals(1, index.getMobs(IWarpData.WARP_KEY, "spawn").size());
+
+    // Adding again replaces the old entry
+    index.add(entity.getEntity(), new WarpData("arena"));
+    assertEquals(1, index.size());
+    assertTrue(index.getMobs(IWarpData.WARP_KEY, "spawn").isEmpty());
+
+    index.remove(entity.getEntity());
+    assertFalse(index.contains(entity.getEntity()));
+    assertTrue(index.getMobs(IWarpData.WARP_KEY, "arena").isEmpty());
+    assertTrue(index.getMobs(FakeChunk.create(world, 0, 0)).isEmpty());
+
+    index.add(entity.getEntity(), new WarpData("spawn"));
+    index.clear();
+    assertEquals(0, index.size());
+    assertTrue(index.getMobs(world, 0, 0, 0, 0).isEmpty());
+  }
+
+  private FakeEntity makeWarp(String alias, int x, int z) {
+    FakeEntity entity = makeEntity(x, z);
+    LivingEntity living = entity.getEntity();
+    living.getPersistentDataContainer()
+        .set(keys.getDataKey(), PersistentDataType.STRING, IWarpData.WARP_KEY);
+    living.getPersistentDataContainer().set(keys.getWarpKey(), PersistentDataType.STRING, alias);
+    return entity;
+  }
+
+  private FakeEntity makeEntity(int x, int z) {
+    return new FakeEntity(UUID.randomUUID(), new Location(world, x, 64, z));
+  }
+
+  private static List<UUID> ids(Collection<IndexedMob> mobs) {
+    return mobs.stream().map(IndexedMob::getUniqueId).collect(Collectors.toList());
+  }
+}
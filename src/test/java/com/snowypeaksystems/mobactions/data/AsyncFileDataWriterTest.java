@@ -0,0 +1,118 @@
+package com.snowypeaksystems.mobactions.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AsyncFileDataWriter.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class AsyncFileDataWriterTest {
+  @Test
+  void flush() {
+    IFileDataWriter writer = new AsyncFileDataWriter(Logger.getAnonymousLogger());
+    CountingData data = new CountingData();
+
+    writer.save("test", data);
+    writer.flush();
+    assertEquals(1, data.saves.get());
+
+    writer.delete("test", data);
+    writer.flush();
+    assertEquals(1, data.deletes.get());
+
+    writer.close();
+  }
+
+  @Test
+  void coalesce() throws InterruptedException {
+    IFileDataWriter writer = new AsyncFileDataWriter(Logger.getAnonymousLogger());
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountingData blocker = new CountingData() {
+      @Override
+      public void save() {
+        blocked.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    CountingData data = new CountingData();
+
+    // Hold the writer thread so the following writes queue up behind it
+    writer.save("blocker", blocker);
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<Void> replaced = writer.save("test", data);
+    writer.save("test", data);
+    writer.delete("test", data);
+    writer.save("test", data);
+    release.countDown();
+    writer.flush();
+
+    assertEquals(1, data.saves.get());
+    assertEquals(0, data.deletes.get());
+    // Writes that were replaced finish with the write that replaced them
+    assertTrue(replaced.isDone());
+
+    writer.close();
+  }
+
+  @Test
+  void saveFailure() throws Exception {
+    IFileDataWriter writer = new AsyncFileDataWriter(Logger.getAnonymousLogger());
+    CountingData failing = new CountingData() {
+      @Override
+      public void save() throws IOException {
+        throw new IOException("Disk full");
+      }
+    };
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> writer.save("failing", failing).get(5, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof IOException);
+    assertNull(writer.save("test", new CountingData()).get(5, TimeUnit.SECONDS));
+
+    writer.close();
+  }
+
+  @Test
+  void close() {
+    IFileDataWriter writer = new AsyncFileDataWriter(Logger.getAnonymousLogger());
+    CountingData data = new CountingData();
+
+    writer.close();
+    writer.save("test", data);
+    assertEquals(1, data.saves.get());
+  }
+
+  private static class CountingData implements FileData {
+    private final AtomicInteger saves = new AtomicInteger();
+    private final AtomicInteger deletes = new AtomicInteger();
+
+    @Override
+    public void save() throws IOException {
+      saves.incrementAndGet();
+    }
+
+    @Override
+    public boolean delete() {
+      deletes.incrementAndGet();
+      return true;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.snowypeaksystems.mobactions.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for FileIndex.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class FileIndexTest {
+  private File dir;
+
+  @BeforeEach
+  void setUp() {
+    dir = new File("indexDir");
+    if (dir.exists() || !dir.mkdirs()) {
+      fail();
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    File[] files = dir.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        if (!f.delete()) {
+          fail();
+        }
+      }
+    }
+
+    if (!dir.delete()) {
+      fail();
+    }
+  }
+
+  @Test
+  void allocateCollision() throws IOException {
+    FileIndex index = new FileIndex(dir);
+    // "a@" and "b!" have the same hashCode
+    File first = index.allocate("A@");
+    File second = index.allocate("b!");
+
+    assertEquals("a@".hashCode(), "b!".hashCode());
+    assertEquals(String.valueOf("a@".hashCode()), first.getName());
+    assertNotEquals(first, second);
+    assertEquals(first, index.allocate("a@"));
+
+    index.put("A@", first);
+    index.put("b!", second);
+    assertTrue(index.exists());
+
+    FileIndex loaded = new FileIndex(dir);
+    assertEquals(first, loaded.get("a@"));
+    assertEquals(second, loaded.get("B!"));
+    assertEquals(2, loaded.getFiles().size());
+  }
+
+  @Test
+  void remove() throws IOException {
+    FileIndex index = new FileIndex(dir);
+    File file = index.allocate("test");
+    index.put("test", file);
+
+    index.remove("test", new File(dir, "other"));
+    assertEquals(file, index.get("test"));
+
+    index.remove("TEST", file);
+    assertNull(index.get("test"));
+    assertFalse(index.exists());
+  }
+
+  @Test
+  void addUnindexed() throws IOException {
+    FileIndex index = new FileIndex(dir);
+    File indexed = index.allocate("indexed");
+    Files.write(indexed.toPath(), "name: indexed\n".getBytes(StandardCharsets.UTF_8));
+    index.put("indexed", indexed);
+
+    // Written, but the server stopped before the index was saved
+    File lost = new File(dir, "lost");
+    Files.write(lost.toPath(), "name: Lost\n".getBytes(StandardCharsets.UTF_8));
+    File unnamed = new File(dir, "unnamed");
+    Files.write(unnamed.toPath(), "x: 1\n".getBytes(StandardCharsets.UTF_8));
+    File duplicate = new File(dir, "duplicate");
+    Files.write(duplicate.toPath(), "name: indexed\n".getBytes(StandardCharsets.UTF_8));
+
+    FileIndex loaded = new FileIndex(dir);
+    assertNull(loaded.get("lost"));
+    loaded.addUnindexed();
+    assertEquals(lost, loaded.get("lost"));
+    assertEquals(indexed, loaded.get("indexed"));
+    assertEquals(2, loaded.getFiles().size());
+
+    FileIndex reloaded = new FileIndex(dir);
+    assertEquals(lost, reloaded.get("LOST"));
+    assertEquals(2, reloaded.getFiles().size());
+  }
+}
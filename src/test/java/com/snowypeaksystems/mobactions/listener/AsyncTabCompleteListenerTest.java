@@ -0,0 +1,104 @@
+package com.snowypeaksystems.mobactions.listener;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import com.snowypeaksystems.mobactions.mock.FakeConsoleCommandSender;
+import com.snowypeaksystems.mobactions.mock.FakePlayer;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for AsyncTabCompleteListener.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class AsyncTabCompleteListenerTest {
+  private AsyncTabCompleteListener listener;
+  private String label;
+  private String[] args;
+
+  @BeforeEach
+  void setUp() {
+    Plugin plugin = (Plugin) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {Plugin.class}, (proxy, method, arguments) -> {
+          if (method.getName().equals("getName")) {
+            return "MobActions";
+          }
+
+          throw new UnsupportedOperationException(method.getName());
+        });
+    PluginCommand command = new PluginCommand("mac", plugin) {};
+    command.setAliases(List.of("mobactions"));
+
+    listener = new AsyncTabCompleteListener((sender, cmd, alias, arguments) -> {
+      label = alias;
+      args = arguments;
+      return List.of("completion");
+    }, command);
+  }
+
+  @Test
+  void playerBuffer() {
+    AsyncTabCompleteEvent event = complete(new FakePlayer(), "/mac warp sp");
+
+    assertTrue(event.isHandled());
+    assertEquals(List.of("completion"), event.getCompletions());
+    assertEquals("mac", label);
+    assertArrayEquals(new String[] {"warp", "sp"}, args);
+  }
+
+  @Test
+  void trailingSpace() {
+    assertTrue(complete(new FakePlayer(), "/mac warp ").isHandled());
+    assertArrayEquals(new String[] {"warp", ""}, args);
+
+    assertTrue(complete(new FakePlayer(), "/mac ").isHandled());
+    assertArrayEquals(new String[] {""}, args);
+  }
+
+  @Test
+  void namespacedAndAliases() {
+    assertTrue(complete(new FakePlayer(), "/mobactions:mac events o").isHandled());
+    assertEquals("mobactions:mac", label);
+    assertArrayEquals(new String[] {"events", "o"}, args);
+
+    assertTrue(complete(new FakePlayer(), "/MobActions warp").isHandled());
+    assertEquals("MobActions", label);
+
+    assertTrue(complete(new FakePlayer(), "/mobactions:mobactions warp").isHandled());
+    assertArrayEquals(new String[] {"warp"}, args);
+  }
+
+  @Test
+  void consoleBuffer() {
+    AsyncTabCompleteEvent event = complete(new FakeConsoleCommandSender(), "mac warps r");
+
+    assertTrue(event.isHandled());
+    assertEquals("mac", label);
+    assertArrayEquals(new String[] {"warps", "r"}, args);
+  }
+
+  @Test
+  void ignored() {
+    // The command name is completed by the server, and other commands are not ours
+    assertFalse(complete(new FakePlayer(), "/mac").isHandled());
+    assertFalse(complete(new FakePlayer(), "/macro warp").isHandled());
+    assertFalse(complete(new FakePlayer(), "/other:mac warp").isHandled());
+    assertNull(label);
+  }
+
+  private AsyncTabCompleteEvent complete(CommandSender sender, String buffer) {
+    AsyncTabCompleteEvent event = new AsyncTabCompleteEvent(sender, buffer, true, null);
+    listener.onAsyncTabComplete(event);
+    return event;
+  }
+}
@@ -0,0 +1,79 @@
+package com.snowypeaksystems.mobactions.mobevent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.snowypeaksystems.mobactions.data.CommandData;
+import com.snowypeaksystems.mobactions.mock.FakePlayer;
+import com.snowypeaksystems.mobactions.mock.FakeTaskScheduler;
+import com.snowypeaksystems.mobactions.player.MobActionsPlayer;
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.util.TimerWheel;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for MobEventManager.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class MobEventManagerTest {
+  private File dir;
+  private TimerWheel timers;
+  private MobEventManager manager;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    dir = new File("eventManagerDir");
+    if (dir.exists() || !dir.mkdirs()) {
+      fail();
+    }
+
+    timers = new TimerWheel();
+    manager = new MobEventManager(null, dir, timers);
+  }
+
+  @AfterEach
+  void tearDown() {
+    File[] files = dir.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        if (!f.delete()) {
+          fail();
+        }
+      }
+    }
+
+    if (!dir.delete()) {
+      fail();
+    }
+  }
+
+  @Test
+  void reloadStopsStarts() throws IOException {
+    MobEvent event = (MobEvent) manager.createEvent("test", new CommandData("say hi"), 60, 0);
+    FakeTaskScheduler scheduler = new FakeTaskScheduler();
+    Set<MobActionsUser> players = new HashSet<>();
+    for (int i = 0; i < MobEvent.DEFAULT_COMMANDS_PER_TICK + 5; i++) {
+      players.add(new MobActionsPlayer(new FakePlayer(String.format("player%02d", i))));
+    }
+
+    // The event is closed while its players are started
+    event.startPlayers(players, scheduler);
+    assertEquals(IMobEvent.State.CLOSED, event.getState());
+    assertEquals(MobEvent.DEFAULT_COMMANDS_PER_TICK, scheduler.getEntities().size());
+
+    manager.reload();
+    for (int i = 0; i < 5; i++) {
+      timers.tick();
+    }
+
+    assertEquals(MobEvent.DEFAULT_COMMANDS_PER_TICK, scheduler.getEntities().size());
+    assertNotSame(event, manager.getEvent("test"));
+  }
+}
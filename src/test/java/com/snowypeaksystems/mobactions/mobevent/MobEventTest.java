@@ -0,0 +1,233 @@
+package com.snowypeaksystems.mobactions.mobevent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.snowypeaksystems.mobactions.data.CommandData;
+import com.snowypeaksystems.mobactions.data.FileIndex;
+import com.snowypeaksystems.mobactions.mock.FakePlayer;
+import com.snowypeaksystems.mobactions.player.MobActionsPlayer;
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.util.TimerWheel;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for MobEvent.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class MobEventTest {
+  private TimerWheel timers;
+
+  @BeforeEach
+  void setUp() {
+    timers = new TimerWheel();
+  }
+
+  @Test
+  void timeout() throws EventStateException {
+    MobEvent event = makeEvent(1, 0);
+    assertEquals(IMobEvent.State.CLOSED, event.getState());
+
+    event.open();
+    assertEquals(IMobEvent.State.OPEN, event.getState());
+
+    tick(19);
+    assertEquals(IMobEvent.State.OPEN, event.getState());
+    tick(1);
+    assertEquals(IMobEvent.State.COUNTDOWN, event.getState());
+
+    event.cancel();
+    assertEquals(IMobEvent.State.CLOSED, event.getState());
+  }
+
+  @Test
+  void forceStart() throws EventStateException {
+    MobEvent event = makeEvent(60, 0);
+    event.open();
+    assertEquals(1, timers.size());
+
+    event.forceStart();
+    assertEquals(IMobEvent.State.COUNTDOWN, event.getState());
+    // The timeout was cancelled, only the first countdown step is left
+    assertEquals(1, timers.size());
+
+    event.cancel();
+    tick(300);
+    assertEquals(IMobEvent.State.CLOSED, event.getState());
+  }
+
+  @Test
+  void staleTimers() throws EventStateException {
+    MobEvent event = makeEvent(60, 0);
+    event.open();
+    event.forceStart();
+    tick(5);
+    event.cancel();
+    event.open();
+
+    // Steps of the cancelled countdown must not move the reopened event
+    tick(300);
+    assertEquals(IMobEvent.State.OPEN, event.getState());
+
+    event.cancel();
+  }
+
+  @Test
+  void maxPlayers() throws EventStateException {
+    MobEvent event = makeEvent(60, 2);
+    MobActionsUser first = new MobActionsPlayer(new FakePlayer());
+    MobActionsUser second = new MobActionsPlayer(new FakePlayer());
+    event.open();
+
+    event.addPlayer(first);
+    assertEquals(IMobEvent.State.OPEN, event.getState());
+    assertTrue(event.hasPlayerJoined(first));
+
+    event.addPlayer(second);
+    assertEquals(IMobEvent.State.COUNTDOWN, event.getState());
+    assertEquals(1, timers.size());
+
+    event.removePlayer(first);
+    event.removePlayer(second);
+    assertFalse(event.hasPlayerJoined(first));
+    event.cancel();
+  }
+
+  @Test
+  void concurrentJoins() throws InterruptedException {
+    MobEvent event = makeEvent(60, 0);
+    List<Thread> threads = new ArrayList<>();
+    List<MobActionsUser> joined = new ArrayList<>();
+
+    try {
+      event.open();
+    } catch (EventStateException e) {
+      throw new AssertionError(e);
+    }
+
+    for (int i = 0; i < 8; i++) {
+      List<MobActionsUser> players = new ArrayList<>();
+      for (int j = 0; j < 100; j++) {
+        players.add(new MobActionsPlayer(new FakePlayer()));
+      }
+      joined.addAll(players);
+
+      threads.add(new Thread(() -> {
+        for (MobActionsUser player : players) {
+          try {
+            event.addPlayer(player);
+          } catch (EventStateException e) {
+            throw new AssertionError(e);
+          }
+        }
+      }));
+    }
+
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(joined.size(), event.getPlayerSet().size());
+    assertEquals(IMobEvent.State.OPEN, event.getState());
+
+    for (MobActionsUser player : joined) {
+      event.removePlayer(player);
+    }
+    event.cancel();
+  }
+
+  @Test
+  void concurrentStart() throws Exception {
+    MobEvent event = makeEvent(60, 50);
+    Set<MobActionsUser> accepted = ConcurrentHashMap.newKeySet();
+    Set<MobActionsUser> rejected = ConcurrentHashMap.newKeySet();
+    CountDownLatch ready = new CountDownLatch(1);
+    List<Callable<Boolean>> tasks = new ArrayList<>();
+    event.open();
+
+    for (int i = 0; i < 8; i++) {
+      List<MobActionsUser> players = new ArrayList<>();
+      for (int j = 0; j < 20; j++) {
+        players.add(new MobActionsPlayer(new FakePlayer()));
+      }
+
+      tasks.add(() -> {
+        ready.await();
+        for (MobActionsUser player : players) {
+          try {
+            event.addPlayer(player);
+            accepted.add(player);
+          } catch (EventStateException e) {
+            rejected.add(player);
+          }
+        }
+        return true;
+      });
+    }
+
+    tasks.add(() -> {
+      ready.await();
+      try {
+        event.forceStart();
+        return true;
+      } catch (EventStateException e) {
+        return false;
+      }
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (Callable<Boolean> task : tasks) {
+        results.add(executor.submit(task));
+      }
+      ready.countDown();
+
+      // Anything other than an EventStateException fails the test here
+      for (Future<Boolean> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(IMobEvent.State.COUNTDOWN, event.getState());
+    // Only the first countdown step is scheduled, and the timeout was cancelled
+    assertEquals(1, timers.size());
+    assertEquals(8 * 20, accepted.size() + rejected.size());
+    assertTrue(accepted.size() <= 50);
+    assertEquals(accepted, event.getPlayerSet());
+    for (MobActionsUser player : rejected) {
+      assertFalse(event.hasPlayerJoined(player));
+    }
+
+    event.cancel();
+    assertTrue(event.getPlayerSet().isEmpty());
+  }
+
+  private MobEvent makeEvent(long timeout, int maxPlayers) {
+    return new MobEvent("test", new CommandData("say hi"), timeout, null, maxPlayers,
+        new FileIndex(new File("eventDir")), timers);
+  }
+
+  private void tick(int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      timers.tick();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.snowypeaksystems.mobactions.mobevent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.snowypeaksystems.mobactions.mock.FakePlayer;
+import com.snowypeaksystems.mobactions.mock.FakeTaskScheduler;
+import com.snowypeaksystems.mobactions.player.MobActionsPlayer;
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.util.TimerWheel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for StaggeredStart.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class StaggeredStartTest {
+  private TimerWheel timers;
+  private FakeTaskScheduler scheduler;
+  private List<String> started;
+  private List<Integer> progress;
+
+  @BeforeEach
+  void setUp() {
+    timers = new TimerWheel();
+    scheduler = new FakeTaskScheduler();
+    started = new ArrayList<>();
+    progress = new ArrayList<>();
+  }
+
+  @Test
+  void perTick() {
+    StaggeredStart start = makeStart(makePlayers("c", "a", "e", "b", "d"), 2);
+
+    start.begin();
+    assertEquals(List.of("a", "b"), started);
+    assertEquals(List.of(2), progress);
+    assertFalse(start.isDone());
+
+    timers.tick();
+    assertEquals(List.of("a", "b", "c", "d"), started);
+    timers.tick();
+    assertEquals(List.of("a", "b", "c", "d", "e"), started);
+    assertTrue(start.isDone());
+    assertEquals(0, timers.size());
+    assertEquals(5, scheduler.getEntities().size());
+  }
+
+  @Test
+  void unlimited() {
+    StaggeredStart start = makeStart(makePlayers("b", "a", "c"), 0);
+
+    start.begin();
+    assertEquals(List.of("a", "b", "c"), started);
+    assertTrue(progress.isEmpty());
+    assertTrue(start.isDone());
+    assertEquals(0, timers.size());
+  }
+
+  @Test
+  void remove() {
+    List<MobActionsUser> players = makePlayers("a", "b", "c", "d");
+    StaggeredStart start = makeStart(players, 1);
+
+    start.begin();
+    assertTrue(start.remove(players.get(1)));
+    assertFalse(start.remove(players.get(0)));
+    assertEquals(2, start.getWaiting());
+
+    timers.tick();
+    assertEquals(List.of("a", "c"), started);
+    timers.tick();
+    assertEquals(List.of("a", "c", "d"), started);
+    assertTrue(start.isDone());
+  }
+
+  @Test
+  void stop() {
+    List<MobActionsUser> players = makePlayers("a", "b", "c", "d");
+    StaggeredStart start = makeStart(players, 1);
+
+    start.begin();
+    assertEquals(Set.of(players.get(1), players.get(2), players.get(3)), start.stop());
+    assertTrue(start.isDone());
+    assertTrue(start.stop().isEmpty());
+
+    timers.tick();
+    timers.tick();
+    assertEquals(List.of("a"), started);
+    assertEquals(0, timers.size());
+  }
+
+  @Test
+  void progressInterval() {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      names.add(String.format("%02d", i));
+    }
+
+    StaggeredStart start = makeStart(makePlayers(names.toArray(new String[0])), 1);
+    start.begin();
+    for (int i = 0; i < 49; i++) {
+      timers.tick();
+    }
+
+    assertEquals(names, started);
+    assertEquals(List.of(1, 21, 41), progress);
+    assertTrue(start.isDone());
+  }
+
+  private StaggeredStart makeStart(List<MobActionsUser> players, int perTick) {
+    return new StaggeredStart(players, perTick, timers, scheduler,
+        user -> started.add(user.getName()),
+        (waiting, count, total, first) -> progress.add(count));
+  }
+
+  private static List<MobActionsUser> makePlayers(String... names) {
+    List<MobActionsUser> players = new ArrayList<>();
+    for (String name : names) {
+      players.add(new MobActionsPlayer(new FakePlayer(name)));
+    }
+
+    return players;
+  }
+}
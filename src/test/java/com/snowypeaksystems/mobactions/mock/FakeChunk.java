@@ -0,0 +1,34 @@
+package com.snowypeaksystems.mobactions.mock;
+
+import java.lang.reflect.Proxy;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+/**
+ * Creates fake Chunks for testing that hold a fixed set of entities. Only the methods the tests use
+ * are supported, so the chunk is a proxy instead of a full implementation.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public final class FakeChunk {
+  private FakeChunk() {}
+
+  /** Returns a chunk of the world at the given chunk coordinates that contains the entities. */
+  public static Chunk create(World world, int x, int z, Entity... entities) {
+    return (Chunk) Proxy.newProxyInstance(FakeChunk.class.getClassLoader(),
+        new Class<?>[] {Chunk.class}, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "getWorld":
+              return world;
+            case "getX":
+              return x;
+            case "getZ":
+              return z;
+            case "getEntities":
+              return entities.clone();
+            default:
+              throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+}
@@ -0,0 +1,87 @@
+package com.snowypeaksystems.mobactions.mock;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.persistence.PersistentDataContainer;
+
+/**
+ * Fake LivingEntity for testing, with a location that can be changed and a persistent data
+ * container kept in memory. Only the methods the tests use are supported, so the entity is a
+ * proxy instead of a full implementation.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class FakeEntity implements InvocationHandler {
+  private final UUID uuid;
+  private final Map<NamespacedKey, Object> data;
+  private final LivingEntity entity;
+  private final PersistentDataContainer container;
+  private Location location;
+
+  /** Creates an entity with the given id at the given location. */
+  public FakeEntity(UUID uuid, Location location) {
+    this.uuid = uuid;
+    this.location = location;
+    this.data = new HashMap<>();
+    this.entity = (LivingEntity) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {LivingEntity.class}, this);
+    this.container = (PersistentDataContainer) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] {PersistentDataContainer.class},
+        (proxy, method, args) -> invokeContainer(method, args));
+  }
+
+  public LivingEntity getEntity() {
+    return entity;
+  }
+
+  public void setLocation(Location location) {
+    this.location = location;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    switch (method.getName()) {
+      case "getUniqueId":
+        return uuid;
+      case "getLocation":
+        return location.clone();
+      case "getWorld":
+        return location.getWorld();
+      case "getPersistentDataContainer":
+        return container;
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return uuid.hashCode();
+      case "toString":
+        return "FakeEntity{" + uuid + "}";
+      default:
+        throw new UnsupportedOperationException(method.getName());
+    }
+  }
+
+  private Object invokeContainer(Method method, Object[] args) {
+    switch (method.getName()) {
+      case "set":
+        data.put((NamespacedKey) args[0], args[2]);
+        return null;
+      case "get":
+        return data.get(args[0]);
+      case "has":
+        return data.containsKey(args[0]);
+      case "remove":
+        data.remove(args[0]);
+        return null;
+      case "isEmpty":
+        return data.isEmpty();
+      default:
+        throw new UnsupportedOperationException(method.getName());
+    }
+  }
+}
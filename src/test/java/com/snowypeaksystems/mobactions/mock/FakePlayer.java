@@ -86,6 +86,16 @@ import org.bukkit.util.Vector;
 @SuppressFBWarnings
 public class FakePlayer implements Player {
   HashMap<String, Boolean> perms = new HashMap<>();
+  private final UUID uuid = UUID.randomUUID();
+  private final String name;
+
+  public FakePlayer() {
+    this(null);
+  }
+
+  public FakePlayer(String name) {
+    this.name = name;
+  }
 
   public void setPermission(String name, boolean value) {
     perms.put(name, value);
@@ -408,7 +418,7 @@ public class FakePlayer implements Player {
 
   @Override
   public UUID getUniqueId() {
-    return null;
+    return uuid;
   }
 
   @Override
@@ -1428,7 +1438,7 @@ public class FakePlayer implements Player {
 
   @Override
   public String getName() {
-    return null;
+    return name;
   }
 
   @Override
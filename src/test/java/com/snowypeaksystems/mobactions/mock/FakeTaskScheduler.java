@@ -0,0 +1,46 @@
+package com.snowypeaksystems.mobactions.mock;
+
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
+import java.util.ArrayList;
+import java.util.List;
+import org.bukkit.entity.Entity;
+
+/**
+ * ITaskScheduler that runs every task right away and remembers which thread it was meant for.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class FakeTaskScheduler implements ITaskScheduler {
+  private final List<Entity> entities = new ArrayList<>();
+  private int globalTasks;
+
+  /** Returns the entity of every task run for an entity, in order. */
+  public List<Entity> getEntities() {
+    return entities;
+  }
+
+  public int getGlobalTasks() {
+    return globalTasks;
+  }
+
+  @Override
+  public void runGlobal(Runnable task) {
+    globalTasks++;
+    task.run();
+  }
+
+  @Override
+  public void runGlobalTimer(Runnable task, long delay, long period) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void runForEntity(Entity entity, Runnable task) {
+    entities.add(entity);
+    task.run();
+  }
+
+  @Override
+  public boolean isGlobalThread() {
+    return true;
+  }
+}
@@ -62,9 +62,11 @@ import org.bukkit.util.Vector;
 @SuppressFBWarnings
 public class FakeWorld implements World {
   private final String name;
+  private final UUID uid;
 
   public FakeWorld() {
     this.name = String.valueOf(System.currentTimeMillis());
+    this.uid = UUID.randomUUID();
   }
 
   @Override
@@ -441,7 +443,7 @@ public class FakeWorld implements World {
 
   @Override
   public UUID getUID() {
-    return null;
+    return uid;
   }
 
   @Override
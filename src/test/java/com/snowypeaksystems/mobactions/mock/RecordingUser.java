@@ -0,0 +1,179 @@
+package com.snowypeaksystems.mobactions.mock;
+
+import com.snowypeaksystems.mobactions.player.IStatus;
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import com.snowypeaksystems.mobactions.util.ITaskScheduler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+
+/**
+ * MobActionsUser that records the messages sent to it and has no permissions.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class RecordingUser implements MobActionsUser {
+  private final List<String> chat = new ArrayList<>();
+  private final List<String> actionBar = new ArrayList<>();
+  private final List<String> titles = new ArrayList<>();
+  private final List<String> subtitles = new ArrayList<>();
+
+  public List<String> getChat() {
+    return chat;
+  }
+
+  public List<String> getActionBar() {
+    return actionBar;
+  }
+
+  public List<String> getTitles() {
+    return titles;
+  }
+
+  public List<String> getSubtitles() {
+    return subtitles;
+  }
+
+  @Override
+  public IStatus getStatus() {
+    return null;
+  }
+
+  @Override
+  public CompletableFuture<Boolean> teleport(Location location) {
+    return CompletableFuture.completedFuture(false);
+  }
+
+  @Override
+  public void sendMessage(String... messages) {
+    chat.addAll(Arrays.asList(messages));
+  }
+
+  @Override
+  public void sendMessage(Component... messages) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void sendActionBar(String message) {
+    actionBar.add(message);
+  }
+
+  @Override
+  public void sendActionBar(Component message) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void sendTitle(String title, String subtitle) {
+    titles.add(title);
+    subtitles.add(subtitle);
+  }
+
+  @Override
+  public void sendTitle(Component title, Component subtitle) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void runTask(ITaskScheduler scheduler, Runnable task) {
+    task.run();
+  }
+
+  @Override
+  public boolean performCommand(String command) {
+    return false;
+  }
+
+  @Override
+  public Location getLocation() {
+    return null;
+  }
+
+  @Override
+  public String getName() {
+    return "recorder";
+  }
+
+  @Override
+  public boolean canUseWarp(String warp) {
+    return false;
+  }
+
+  @Override
+  public boolean canRunCommand() {
+    return false;
+  }
+
+  @Override
+  public boolean canJoinEvent(String event) {
+    return false;
+  }
+
+  @Override
+  public boolean canCreateEvents() {
+    return false;
+  }
+
+  @Override
+  public boolean canRemoveEvents() {
+    return false;
+  }
+
+  @Override
+  public boolean canStartEvents() {
+    return false;
+  }
+
+  @Override
+  public boolean canCancelEvents() {
+    return false;
+  }
+
+  @Override
+  public boolean canGetEventInfo() {
+    return false;
+  }
+
+  @Override
+  public boolean canCreate() {
+    return false;
+  }
+
+  @Override
+  public boolean canRemove() {
+    return false;
+  }
+
+  @Override
+  public boolean canUseWarpCommand() {
+    return false;
+  }
+
+  @Override
+  public boolean canUseWarpsCommand() {
+    return false;
+  }
+
+  @Override
+  public boolean canSetWarp() {
+    return false;
+  }
+
+  @Override
+  public boolean canRemoveWarp() {
+    return false;
+  }
+
+  @Override
+  public boolean canReload() {
+    return false;
+  }
+
+  @Override
+  public boolean canViewStats() {
+    return false;
+  }
+}
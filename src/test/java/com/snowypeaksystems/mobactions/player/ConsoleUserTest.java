@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.snowypeaksystems.mobactions.mock.FakeConsoleCommandSender;
+import com.snowypeaksystems.mobactions.mock.FakeTaskScheduler;
 import com.snowypeaksystems.mobactions.mock.FakeWorld;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -16,6 +17,18 @@ import org.junit.jupiter.api.Test;
  * @author Copyright (c) Levi Muniz. All Rights Reserved.
  */
 class ConsoleUserTest {
+  @Test
+  void runTask() {
+    MobActionsUser console = new ConsoleUser(new FakeConsoleCommandSender(), null);
+    FakeTaskScheduler scheduler = new FakeTaskScheduler();
+    boolean[] ran = new boolean[1];
+
+    console.runTask(scheduler, () -> ran[0] = true);
+    assertTrue(ran[0]);
+    assertEquals(1, scheduler.getGlobalTasks());
+    assertTrue(scheduler.getEntities().isEmpty());
+  }
+
   @Test
   void canUseWarp() {
     MobActionsUser console = new ConsoleUser(new FakeConsoleCommandSender(), null);
@@ -143,4 +156,10 @@ class ConsoleUserTest {
     ConsoleActionUser console = new ConsoleUser(new FakeConsoleCommandSender(), null);
     assertFalse(console.canUseConsoleCommand());
   }
-}
\ No newline at end of file
+
+  @Test
+  void canViewStats() {
+    MobActionsUser console = new ConsoleUser(new FakeConsoleCommandSender(), null);
+    assertTrue(console.canViewStats());
+  }
+}
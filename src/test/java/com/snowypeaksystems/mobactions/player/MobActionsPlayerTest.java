@@ -1,9 +1,12 @@
 package com.snowypeaksystems.mobactions.player;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.snowypeaksystems.mobactions.mock.FakePlayer;
+import com.snowypeaksystems.mobactions.mock.FakeTaskScheduler;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -14,19 +17,36 @@ class MobActionsPlayerTest {
   @Test
   void canUseWarp() {
     FakePlayer fake = new FakePlayer();
-    MobActionsUser player = new MobActionsPlayer(fake);
+    MobActionsPlayer player = new MobActionsPlayer(fake);
 
     assertFalse(player.canUseWarp("test1"));
 
     fake.setPermission("mobactions.warp.test1", true);
+    player.invalidatePermissions();
     assertTrue(player.canUseWarp("test1"));
     fake.setPermission("mobactions.warp.test1", false);
+    player.invalidatePermissions();
 
     fake.setPermission("mobactions.warp.*", true);
+    player.invalidatePermissions();
     assertTrue(player.canUseWarp("test1"));
     fake.setPermission("mobactions.warp.*", false);
   }
 
+  @Test
+  void canUseWarpCached() {
+    FakePlayer fake = new FakePlayer();
+    MobActionsPlayer player = new MobActionsPlayer(fake);
+
+    assertFalse(player.canUseWarp("test1"));
+    fake.setPermission("mobactions.warp.test1", true);
+    assertFalse(player.canUseWarp("test1"));
+
+    player.invalidatePermissions();
+    assertTrue(player.canUseWarp("TEST1"));
+    fake.setPermission("mobactions.warp.test1", false);
+  }
+
   @Test
   void canRunCommand() {
     FakePlayer fake = new FakePlayer();
@@ -111,6 +131,18 @@ class MobActionsPlayerTest {
     fake.setPermission("mobactions.admin.reload", false);
   }
 
+  @Test
+  void canViewStats() {
+    FakePlayer fake = new FakePlayer();
+    MobActionsUser player = new MobActionsPlayer(fake);
+
+    assertFalse(player.canViewStats());
+
+    fake.setPermission("mobactions.admin.stats", true);
+    assertTrue(player.canViewStats());
+    fake.setPermission("mobactions.admin.stats", false);
+  }
+
   @Test
   void canUseWarpsCommand() {
     FakePlayer fake = new FakePlayer();
@@ -126,19 +158,36 @@ class MobActionsPlayerTest {
   @Test
   void canJoinEvent() {
     FakePlayer fake = new FakePlayer();
-    MobActionsUser player = new MobActionsPlayer(fake);
+    MobActionsPlayer player = new MobActionsPlayer(fake);
 
     assertFalse(player.canJoinEvent("test1"));
 
     fake.setPermission("mobactions.event.test1", true);
+    player.invalidatePermissions();
     assertTrue(player.canJoinEvent("test1"));
     fake.setPermission("mobactions.event.test1", false);
+    player.invalidatePermissions();
 
     fake.setPermission("mobactions.event.*", true);
+    player.invalidatePermissions();
     assertTrue(player.canJoinEvent("test1"));
     fake.setPermission("mobactions.event.*", false);
   }
 
+  @Test
+  void canJoinEventCached() {
+    FakePlayer fake = new FakePlayer();
+    MobActionsPlayer player = new MobActionsPlayer(fake);
+
+    assertFalse(player.canJoinEvent("test1"));
+    fake.setPermission("mobactions.event.test1", true);
+    assertFalse(player.canJoinEvent("test1"));
+
+    player.invalidatePermissions();
+    assertTrue(player.canJoinEvent("TEST1"));
+    fake.setPermission("mobactions.event.test1", false);
+  }
+
   @Test
   void canStartEvents() {
     FakePlayer fake = new FakePlayer();
@@ -224,4 +273,17 @@ class MobActionsPlayerTest {
     assertTrue(player.canUseConsoleCommand());
     fake.setPermission("mobactions.consolecmd", false);
   }
-}
\ No newline at end of file
+
+  @Test
+  void runTask() {
+    FakePlayer fake = new FakePlayer();
+    MobActionsUser player = new MobActionsPlayer(fake);
+    FakeTaskScheduler scheduler = new FakeTaskScheduler();
+    boolean[] ran = new boolean[1];
+
+    player.runTask(scheduler, () -> ran[0] = true);
+    assertTrue(ran[0]);
+    assertEquals(List.of(fake), scheduler.getEntities());
+    assertEquals(0, scheduler.getGlobalTasks());
+  }
+}
@@ -0,0 +1,50 @@
+package com.snowypeaksystems.mobactions.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.snowypeaksystems.mobactions.mock.FakePlayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for PermissionCache.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class PermissionCacheTest {
+  @AfterEach
+  void tearDown() {
+    PermissionCache.setLifetime(PermissionCache.DEFAULT_LIFETIME_SECONDS);
+  }
+
+  @Test
+  void has() {
+    FakePlayer fake = new FakePlayer();
+    PermissionCache cache = new PermissionCache(fake, "mobactions.warp");
+
+    fake.setPermission("mobactions.warp.test1", true);
+    assertTrue(cache.has("Test1"));
+    assertFalse(cache.has("test2"));
+    assertEquals(2, cache.size());
+
+    fake.setPermission("mobactions.warp.*", true);
+    assertFalse(cache.has("test2"));
+
+    cache.invalidate();
+    assertEquals(0, cache.size());
+    assertTrue(cache.has("test2"));
+  }
+
+  @Test
+  void setLifetime() {
+    PermissionCache.setLifetime(0);
+    FakePlayer fake = new FakePlayer();
+    PermissionCache cache = new PermissionCache(fake, "mobactions.event");
+
+    assertFalse(cache.has("test1"));
+    fake.setPermission("mobactions.event.test1", true);
+    assertTrue(cache.has("test1"));
+    assertEquals(0, cache.size());
+  }
+}
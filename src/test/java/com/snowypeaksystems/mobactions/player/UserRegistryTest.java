@@ -0,0 +1,91 @@
+package com.snowypeaksystems.mobactions.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.snowypeaksystems.mobactions.mock.FakeConsoleCommandSender;
+import com.snowypeaksystems.mobactions.mock.FakePlayer;
+import java.util.UUID;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for UserRegistry.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class UserRegistryTest {
+  @Test
+  void get() {
+    UserRegistry registry = new UserRegistry(null);
+    Player player = new FakePlayer();
+
+    MobActionsUser user = registry.get(player);
+    assertSame(user, registry.get(player));
+    assertSame(user, registry.get((CommandSender) player));
+    assertNotSame(user, registry.get(new FakePlayer()));
+    assertEquals(2, registry.size());
+  }
+
+  @Test
+  void getRejoined() {
+    UserRegistry registry = new UserRegistry(null);
+    UUID uuid = UUID.randomUUID();
+    MobActionsUser user = registry.get(new UuidPlayer(uuid));
+
+    assertNotSame(user, registry.get(new UuidPlayer(uuid)));
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  void getConsole() {
+    UserRegistry registry = new UserRegistry(null);
+    ConsoleCommandSender console = new FakeConsoleCommandSender();
+
+    MobActionsUser user = registry.get(console);
+    assertTrue(user instanceof ConsoleUser);
+    assertSame(user, registry.get(console));
+    assertNotSame(user, registry.get(new FakeConsoleCommandSender()));
+  }
+
+  @Test
+  void remove() {
+    UserRegistry registry = new UserRegistry(null);
+    Player player = new FakePlayer();
+    MobActionsUser user = registry.get(player);
+
+    assertSame(user, registry.remove(player));
+    assertNull(registry.remove(player));
+    assertEquals(0, registry.size());
+    assertNotSame(user, registry.get(player));
+  }
+
+  @Test
+  void clear() {
+    UserRegistry registry = new UserRegistry(null);
+    ConsoleCommandSender console = new FakeConsoleCommandSender();
+    MobActionsUser consoleUser = registry.get(console);
+    registry.get(new FakePlayer());
+
+    registry.clear();
+    assertEquals(0, registry.size());
+    assertNotSame(consoleUser, registry.get(console));
+  }
+
+  private static class UuidPlayer extends FakePlayer {
+    private final UUID uuid;
+
+    UuidPlayer(UUID uuid) {
+      this.uuid = uuid;
+    }
+
+    @Override
+    public UUID getUniqueId() {
+      return uuid;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.snowypeaksystems.mobactions.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for FoliaTaskScheduler, using stand-ins for the schedulers Folia adds to the API.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class FoliaTaskSchedulerTest {
+  private GlobalRegionScheduler globalScheduler;
+  private EntityScheduler entityScheduler;
+  private Entity entity;
+  private boolean globalThread;
+  private boolean ownsEntity;
+  private FoliaTaskScheduler scheduler;
+
+  @BeforeEach
+  void setUp() throws ReflectiveOperationException {
+    globalScheduler = new GlobalRegionScheduler();
+    entityScheduler = new EntityScheduler();
+    entity = (Entity) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {FoliaEntity.class}, (proxy, method, args) -> {
+          if (method.getName().equals("getScheduler")) {
+            return entityScheduler;
+          }
+
+          throw new UnsupportedOperationException(method.getName());
+        });
+    Server server = (Server) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {FoliaServer.class}, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "getGlobalRegionScheduler":
+              return globalScheduler;
+            case "isGlobalTickThread":
+              return globalThread;
+            case "isOwnedByCurrentRegion":
+              return ownsEntity && args[0] == entity;
+            default:
+              throw new UnsupportedOperationException(method.getName());
+          }
+        });
+    Plugin plugin = (Plugin) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] {Plugin.class}, (proxy, method, args) -> {
+          if (method.getName().equals("getServer")) {
+            return server;
+          }
+
+          throw new UnsupportedOperationException(method.getName());
+        });
+
+    scheduler = new FoliaTaskScheduler(plugin, FoliaServer.class, FoliaEntity.class);
+  }
+
+  @Test
+  void runGlobal() {
+    AtomicInteger runs = new AtomicInteger();
+
+    globalThread = true;
+    assertTrue(scheduler.isGlobalThread());
+    scheduler.runGlobal(runs::incrementAndGet);
+    assertEquals(1, runs.get());
+    assertEquals(0, globalScheduler.getTasks());
+
+    globalThread = false;
+    assertFalse(scheduler.isGlobalThread());
+    scheduler.runGlobal(runs::incrementAndGet);
+    assertEquals(2, runs.get());
+    assertEquals(1, globalScheduler.getTasks());
+  }
+
+  @Test
+  void runGlobalTimer() {
+    scheduler.runGlobalTimer(() -> {}, 0, 20);
+    scheduler.runGlobalTimer(() -> {}, 5, 1);
+
+    // Folia rejects timers that start on the current tick
+    assertEquals(2, globalScheduler.getTimers().size());
+    assertArrayEquals(new long[] {1, 20}, globalScheduler.getTimers().get(0));
+    assertArrayEquals(new long[] {5, 1}, globalScheduler.getTimers().get(1));
+  }
+
+  @Test
+  void runForEntity() {
+    AtomicInteger runs = new AtomicInteger();
+
+    ownsEntity = true;
+    scheduler.runForEntity(entity, runs::incrementAndGet);
+    assertEquals(1, runs.get());
+    assertEquals(0, entityScheduler.getTasks());
+
+    ownsEntity = false;
+    scheduler.runForEntity(entity, runs::incrementAndGet);
+    assertEquals(2, runs.get());
+    assertEquals(1, entityScheduler.getTasks());
+  }
+
+  /** The methods Folia adds to Server. */
+  interface FoliaServer extends Server {
+    GlobalRegionScheduler getGlobalRegionScheduler();
+
+    boolean isOwnedByCurrentRegion(Entity entity);
+
+    boolean isGlobalTickThread();
+  }
+
+  /** The method Folia adds to Entity. */
+  interface FoliaEntity extends Entity {
+    EntityScheduler getScheduler();
+  }
+}
@@ -0,0 +1,67 @@
+package com.snowypeaksystems.mobactions.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.snowypeaksystems.mobactions.mock.FakeConsoleCommandSender;
+import com.snowypeaksystems.mobactions.mock.RecordingUser;
+import com.snowypeaksystems.mobactions.player.ConsoleUser;
+import com.snowypeaksystems.mobactions.player.MobActionsUser;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Messages class.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class MessagesTest {
+  @Test
+  void displayFromString() {
+    assertEquals(Messages.Display.CHAT, Messages.Display.fromString("chat"));
+    assertEquals(Messages.Display.ACTION_BAR, Messages.Display.fromString("action-bar"));
+    assertEquals(Messages.Display.ACTION_BAR, Messages.Display.fromString("ACTION_BAR"));
+    assertEquals(Messages.Display.TITLE, Messages.Display.fromString("Title"));
+    assertEquals(Messages.Display.CHAT, Messages.Display.fromString("bossbar"));
+    assertEquals(Messages.Display.CHAT, Messages.Display.fromString(null));
+  }
+
+  @Test
+  void broadcast() {
+    Messages.setComponentsEnabled(false);
+    RecordingUser first = new RecordingUser();
+    RecordingUser second = new RecordingUser();
+    List<String> console = new ArrayList<>();
+    ConsoleUser consoleUser = new ConsoleUser(new FakeConsoleCommandSender() {
+      @Override
+      public void sendMessage(String[] messages) {
+        console.addAll(Arrays.asList(messages));
+      }
+    });
+    List<MobActionsUser> users = List.of(first, second, consoleUser);
+    String expected = Messages.gm("event-countdown-text", "test", "5");
+
+    Messages.broadcast(users, Messages.Display.CHAT, "event-countdown-text", "test", "5");
+    assertEquals(List.of(expected), first.getChat());
+    assertSame(first.getChat().get(0), second.getChat().get(0));
+
+    Messages.broadcast(users, Messages.Display.ACTION_BAR, "event-countdown-text", "test", "5");
+    assertEquals(List.of(expected), first.getActionBar());
+    assertSame(first.getActionBar().get(0), second.getActionBar().get(0));
+
+    Messages.broadcast(users, Messages.Display.TITLE, "event-countdown-text", "test", "5");
+    assertEquals(List.of(""), first.getTitles());
+    assertEquals(List.of(expected), first.getSubtitles());
+    assertSame(first.getSubtitles().get(0), second.getSubtitles().get(0));
+
+    for (RecordingUser user : List.of(first, second)) {
+      assertEquals(1, user.getChat().size());
+      assertEquals(1, user.getActionBar().size());
+      assertEquals(1, user.getSubtitles().size());
+    }
+
+    // The console has no action bar or titles, so every message is shown in chat
+    assertEquals(List.of(expected, expected, expected), console);
+  }
+}
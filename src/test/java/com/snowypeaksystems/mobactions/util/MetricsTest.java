@@ -0,0 +1,66 @@
+package com.snowypeaksystems.mobactions.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Metrics class.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class MetricsTest {
+  @Test
+  void timer() {
+    assertSame(Metrics.timer("test.same"), Metrics.timer("test.same"));
+    assertTrue(Metrics.getTimers().containsKey("test.same"));
+  }
+
+  @Test
+  void record() {
+    Metrics.Timer timer = Metrics.timer("test.record");
+    timer.reset();
+
+    assertEquals(0, timer.getMeanNanos());
+    assertEquals(0, timer.getPercentileNanos(0.99));
+
+    timer.record(100);
+    timer.record(300);
+    timer.record(-5);
+
+    assertEquals(3, timer.getCount());
+    assertEquals(400, timer.getTotalNanos());
+    assertEquals(133, timer.getMeanNanos());
+    assertEquals(300, timer.getMaxNanos());
+
+    timer.reset();
+    assertEquals(0, timer.getCount());
+    assertEquals(0, timer.getMaxNanos());
+  }
+
+  @Test
+  void getPercentileNanos() {
+    Metrics.Timer timer = Metrics.timer("test.percentile");
+    timer.reset();
+
+    for (int i = 0; i < 99; i++) {
+      timer.record(10);
+    }
+    timer.record(1_000_000);
+
+    assertEquals(15, timer.getPercentileNanos(0.5));
+    assertEquals(15, timer.getPercentileNanos(0.99));
+    assertEquals(1_000_000, timer.getPercentileNanos(1));
+  }
+
+  @Test
+  void getBucket() {
+    assertEquals(0, Metrics.Timer.getBucket(0));
+    assertEquals(1, Metrics.Timer.getBucket(1));
+    assertEquals(2, Metrics.Timer.getBucket(2));
+    assertEquals(2, Metrics.Timer.getBucket(3));
+    assertEquals(11, Metrics.Timer.getBucket(1024));
+    assertEquals(63, Metrics.Timer.getBucket(Long.MAX_VALUE));
+  }
+}
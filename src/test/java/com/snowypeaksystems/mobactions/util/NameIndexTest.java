@@ -0,0 +1,65 @@
+package com.snowypeaksystems.mobactions.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for NameIndex class.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class NameIndexTest {
+  @Test
+  void complete() {
+    NameIndex index = new NameIndex();
+    index.replaceAll(List.of("b", "Abc", "ab", "a", "abd", "ac"));
+
+    assertEquals(List.of("ab", "abc", "abd"), index.complete("AB", 10, n -> true));
+    assertEquals(List.of("a", "ab"), index.complete("a", 2, n -> true));
+    assertEquals(List.of("a", "abc"), index.complete("a", 2, n -> !n.equals("ab")));
+    assertEquals(List.of(), index.complete("c", 10, n -> true));
+    assertEquals(6, index.complete("", 10, n -> true).size());
+  }
+
+  @Test
+  void remove() {
+    NameIndex index = new NameIndex();
+    index.add("Spawn");
+    index.add("spawn");
+    assertEquals(1, index.size());
+
+    index.remove("SPAWN");
+    assertEquals(0, index.size());
+
+    index.add("spawn");
+    index.clear();
+    assertEquals(List.of(), index.complete("s", 10, n -> true));
+  }
+
+  @Test
+  void replaceAllWhileReading() throws InterruptedException {
+    NameIndex index = new NameIndex();
+    List<String> names = List.of("arena", "shop", "spawn", "spleef");
+    index.replaceAll(names);
+
+    AtomicBoolean done = new AtomicBoolean();
+    Thread writer = new Thread(() -> {
+      while (!done.get()) {
+        index.replaceAll(names);
+      }
+    });
+    writer.start();
+
+    // Readers never see the index part way through being replaced
+    try {
+      for (int i = 0; i < 10000; i++) {
+        assertEquals(names, index.complete("", 10, n -> true));
+      }
+    } finally {
+      done.set(true);
+      writer.join();
+    }
+  }
+}
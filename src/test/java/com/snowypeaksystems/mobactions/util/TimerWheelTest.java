@@ -0,0 +1,86 @@
+package com.snowypeaksystems.mobactions.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for TimerWheel class.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class TimerWheelTest {
+  @Test
+  void schedule() {
+    TimerWheel wheel = new TimerWheel(8);
+    List<Long> ran = new ArrayList<>();
+
+    for (long delay : new long[] {0, 1, 5, 8, 9, 30}) {
+      wheel.schedule(delay, () -> ran.add(wheel.getCurrentTick()));
+    }
+    assertEquals(6, wheel.size());
+
+    tick(wheel, 40);
+    assertEquals(List.of(1L, 1L, 5L, 8L, 9L, 30L), ran);
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void cancel() {
+    TimerWheel wheel = new TimerWheel(4);
+    List<String> ran = new ArrayList<>();
+    TimerWheel.Timeout[] second = new TimerWheel.Timeout[1];
+
+    TimerWheel.Timeout first = wheel.schedule(4, () -> ran.add("first"));
+    wheel.schedule(4, () -> second[0].cancel());
+    second[0] = wheel.schedule(4, () -> ran.add("second"));
+    TimerWheel.Timeout third = wheel.schedule(2, () -> ran.add("third"));
+
+    assertTrue(third.cancel());
+    assertFalse(third.cancel());
+    assertEquals(3, wheel.size());
+
+    tick(wheel, 4);
+    assertEquals(List.of("first"), ran);
+    assertTrue(first.isExpired());
+    assertFalse(first.cancel());
+    assertTrue(second[0].isCancelled());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void reschedule() {
+    TimerWheel wheel = new TimerWheel(16);
+    List<Long> ran = new ArrayList<>();
+
+    Runnable repeat = new Runnable() {
+      @Override
+      public void run() {
+        ran.add(wheel.getCurrentTick());
+        if (ran.size() < 3) {
+          wheel.schedule(20, this);
+        }
+      }
+    };
+
+    wheel.schedule(1, repeat);
+    tick(wheel, 100);
+    assertEquals(List.of(1L, 21L, 41L), ran);
+  }
+
+  @Test
+  void slotCount() {
+    assertThrows(IllegalArgumentException.class, () -> new TimerWheel(0));
+    assertThrows(IllegalArgumentException.class, () -> new TimerWheel(12));
+  }
+
+  private static void tick(TimerWheel wheel, int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      wheel.tick();
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.snowypeaksystems.mobactions.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Tokens.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class TokensTest {
+  @Test
+  void isUnescaped() {
+    assertTrue(Tokens.isUnescaped("{}", 0, '{'));
+    assertTrue(Tokens.isUnescaped("a{}", 1, '{'));
+    assertFalse(Tokens.isUnescaped("a{}", 1, '}'));
+    assertFalse(Tokens.isUnescaped("\\{}", 1, '{'));
+    assertTrue(Tokens.isUnescaped("\\\\{}", 2, '{'));
+  }
+
+  @Test
+  void getLiteralEnd() {
+    assertEquals(1, Tokens.getLiteralEnd("a{}", 1));
+    assertEquals(2, Tokens.getLiteralEnd("a\\{}", 2));
+    assertEquals(2, Tokens.getLiteralEnd("a\\\\{}", 3));
+  }
+
+  @Test
+  void unescape() {
+    assertEquals("{} test", Tokens.unescape("\\{\\} test"));
+    assertEquals("\\\\{", Tokens.unescape("\\\\{"));
+    assertEquals("test", Tokens.unescape("test"));
+  }
+}
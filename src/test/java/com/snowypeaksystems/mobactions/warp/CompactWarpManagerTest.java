@@ -0,0 +1,117 @@
+package com.snowypeaksystems.mobactions.warp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.snowypeaksystems.mobactions.data.FileDataWriter;
+import com.snowypeaksystems.mobactions.mock.FakeWorld;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the CompactWarpManager class.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+class CompactWarpManagerTest {
+  private static World world; //Need to keep a reference ourselves or gc will set to null
+  private File file;
+  private Location testLoc;
+  private IWarpManager testWarpManager;
+
+  @BeforeAll
+  static void setUp() {
+    world = new FakeWorld();
+  }
+
+  @BeforeEach
+  void start() throws IOException {
+    file = new File("test-warps.dat");
+    testLoc = new Location(world, 1, 2, 3);
+    testWarpManager = new CompactWarpManager(file, null, new FileDataWriter());
+  }
+
+  @AfterEach
+  void end() {
+    if (file.exists() && !file.delete()) {
+      fail();
+    }
+  }
+
+  @Test
+  void makeWarp() throws IOException {
+    IWarp testWarp1 = testWarpManager.makeWarp("TESTWARP1", testLoc).join();
+
+    assertEquals("testwarp1", testWarp1.getAlias());
+    assertEquals(testLoc, testWarp1.getDestination());
+    assertTrue(file.exists());
+
+    IWarp testWarp2 = testWarpManager.makeWarp("testWarp1", testLoc).join();
+    assertEquals(testWarp2, testWarpManager.getWarp("testwarp1"));
+
+    assertFalse(testWarp1.delete());
+    assertTrue(testWarp2.delete());
+    assertNull(testWarpManager.getWarp("testwarp1"));
+  }
+
+  @Test
+  void unregister() throws IOException {
+    testWarpManager.makeWarp("testWarp1", testLoc);
+    testWarpManager.makeWarp("testWarp2", testLoc);
+    long size = file.length();
+
+    testWarpManager.unregister("TESTWARP1");
+
+    assertFalse(testWarpManager.exists("testwarp1"));
+    assertTrue(testWarpManager.exists("testwarp2"));
+    assertTrue(file.length() < size);
+  }
+
+  @Test
+  void getLoadedWarpNames() throws IOException {
+    assertTrue(testWarpManager.getLoadedWarpNames().isEmpty());
+    testWarpManager.makeWarp("testWarp1", testLoc);
+
+    assertEquals(1, testWarpManager.getLoadedWarps().size());
+    assertTrue(testWarpManager.getLoadedWarpNames().contains("testwarp1"));
+  }
+
+  @Test
+  void reload() throws IOException {
+    testWarpManager.makeWarp("testWarp1", testLoc);
+    testWarpManager.makeWarp("testWarp2", testLoc);
+    testWarpManager.unregister("testWarp2");
+
+    IWarpManager loaded = new CompactWarpManager(file, null, new FileDataWriter());
+    assertTrue(loaded.exists("testwarp1"));
+    assertFalse(loaded.exists("testwarp2"));
+    assertEquals(1, loaded.getLoadedWarps().size());
+  }
+
+  @Test
+  void completeWarpNames() throws IOException {
+    testWarpManager.makeWarp("spawn", testLoc);
+    testWarpManager.makeWarp("Shop", testLoc);
+    testWarpManager.makeWarp("arena", testLoc);
+
+    assertEquals(List.of("shop", "spawn"), testWarpManager.completeWarpNames("S", 10, n -> true));
+    assertEquals(List.of("shop"), testWarpManager.completeWarpNames("s", 1, n -> true));
+    assertEquals(List.of("spawn"),
+        testWarpManager.completeWarpNames("s", 10, n -> !n.equals("shop")));
+
+    testWarpManager.unregister("shop");
+    assertEquals(List.of("spawn"), testWarpManager.completeWarpNames("s", 10, n -> true));
+
+    IWarpManager loaded = new CompactWarpManager(file, null, new FileDataWriter());
+    assertEquals(List.of("arena", "spawn"), loaded.completeWarpNames("", 10, n -> true));
+  }
+}
@@ -56,12 +56,12 @@ class WarpManagerTest {
 
   @Test
   void makeWarp() throws IOException {
-    testWarp1 = testWarpManager.makeWarp("TESTWARP1", testLoc1);
+    testWarp1 = testWarpManager.makeWarp("TESTWARP1", testLoc1).join();
 
     assertEquals("testwarp1", testWarp1.getAlias());
     assertEquals(testLoc1, testWarp1.getDestination());
 
-    IWarp testWarp2 = testWarpManager.makeWarp("testWarp1", testLoc2);
+    IWarp testWarp2 = testWarpManager.makeWarp("testWarp1", testLoc2).join();
     assertEquals(testWarp2, testWarpManager.getWarp("testwarp1"));
 
     assertTrue(testWarp1.delete());
@@ -71,7 +71,7 @@ class WarpManagerTest {
   @Test
   void getWarp() throws IOException {
     assertNull(testWarpManager.getWarp("testWarp1"));
-    testWarp1 = testWarpManager.makeWarp("testWarp1", testLoc1);
+    testWarp1 = testWarpManager.makeWarp("testWarp1", testLoc1).join();
 
     assertEquals(testWarp1, testWarpManager.getWarp("testwarp1"));
 
@@ -80,7 +80,7 @@ class WarpManagerTest {
 
   @Test
   void unregister() throws IOException {
-    testWarp1 = testWarpManager.makeWarp("testWarp1", testLoc1);
+    testWarp1 = testWarpManager.makeWarp("testWarp1", testLoc1).join();
     assertTrue(testWarpManager.exists("testWarp1"));
 
     testWarpManager.unregister("testWarp1");
@@ -92,7 +92,7 @@ class WarpManagerTest {
   @Test
   void exists() throws IOException {
     assertFalse(testWarpManager.exists("testWarp"));
-    testWarpManager.makeWarp("testWarp", testLoc1).delete();
+    testWarpManager.makeWarp("testWarp", testLoc1).join().delete();
     assertTrue(testWarpManager.exists("testWarp"));
   }
 
@@ -100,12 +100,12 @@ class WarpManagerTest {
   void getLoadedWarpNames() throws IOException {
     assertEquals(0, testWarpManager.getLoadedWarpNames().size());
 
-    testWarpManager.makeWarp("testWarp", testLoc1).delete();
+    testWarpManager.makeWarp("testWarp", testLoc1).join().delete();
     assertEquals(1, testWarpManager.getLoadedWarpNames().size());
-    testWarpManager.makeWarp("testwarp", testLoc2).delete();
+    testWarpManager.makeWarp("testwarp", testLoc2).join().delete();
     assertEquals(1, testWarpManager.getLoadedWarpNames().size());
 
-    testWarpManager.makeWarp("testWarp2", testLoc1).delete();
+    testWarpManager.makeWarp("testWarp2", testLoc1).join().delete();
     assertEquals(2, testWarpManager.getLoadedWarpNames().size());
 
     assertTrue(testWarpManager.getLoadedWarpNames().contains("testwarp"));
@@ -116,13 +116,13 @@ class WarpManagerTest {
   void getLoadedWarps() throws IOException {
     assertEquals(0, testWarpManager.getLoadedWarps().size());
 
-    testWarpManager.makeWarp("testWarp", testLoc1).delete();
+    testWarpManager.makeWarp("testWarp", testLoc1).join().delete();
     assertEquals(1, testWarpManager.getLoadedWarps().size());
-    IWarp test1 = testWarpManager.makeWarp("testwarp", testLoc2);
+    IWarp test1 = testWarpManager.makeWarp("testwarp", testLoc2).join();
     test1.delete();
     assertEquals(1, testWarpManager.getLoadedWarps().size());
 
-    IWarp test2 = testWarpManager.makeWarp("testWarp2", testLoc1);
+    IWarp test2 = testWarpManager.makeWarp("testWarp2", testLoc1).join();
     test2.delete();
     assertEquals(2, testWarpManager.getLoadedWarpNames().size());
 
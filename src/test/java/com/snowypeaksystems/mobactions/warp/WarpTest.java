@@ -51,14 +51,14 @@ class WarpTest {
 
   @Test
   void getAlias() throws IOException {
-    IWarp warp = wm.makeWarp("test", new Location(world, 0, 0, 0));
+    IWarp warp = wm.makeWarp("test", new Location(world, 0, 0, 0)).join();
     assertEquals("test", warp.getAlias());
     warp.delete();
   }
 
   @Test
   void save() throws IOException {
-    IWarp warp = wm.makeWarp("test1", new Location(world, 0, 0, 0));
+    IWarp warp = wm.makeWarp("test1", new Location(world, 0, 0, 0)).join();
     warp.delete();
     assertFalse(new File(file, "110251487").exists());
 
@@ -70,7 +70,7 @@ class WarpTest {
 
   @Test
   void delete() throws IOException {
-    IWarp warp = wm.makeWarp("test2", new Location(world, 0, 0, 0));
+    IWarp warp = wm.makeWarp("test2", new Location(world, 0, 0, 0)).join();
 
     assertTrue(new File(file, "110251488").exists());
 
@@ -82,7 +82,7 @@ class WarpTest {
   @Test
   void getDestination() throws IOException {
     Location loc = new Location(world, 0, 0, 0);
-    IWarp warp = wm.makeWarp("", loc);
+    IWarp warp = wm.makeWarp("", loc).join();
 
     assertEquals(loc, warp.getDestination());
     warp.delete();
@@ -0,0 +1,23 @@
+package io.papermc.paper.threadedregions.scheduler;
+
+import java.util.function.Consumer;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Stand-in for Folia's EntityScheduler that runs tasks right away.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class EntityScheduler {
+  private int tasks;
+
+  public int getTasks() {
+    return tasks;
+  }
+
+  /** Runs the task right away. */
+  public Object run(Plugin plugin, Consumer<Object> task, Runnable retired) {
+    tasks++;
+    task.accept(null);
+    return null;
+  }
+}
@@ -0,0 +1,37 @@
+package io.papermc.paper.threadedregions.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Stand-in for Folia's GlobalRegionScheduler that runs tasks right away and records timers.
+ * @author Copyright (c) Levi Muniz. All Rights Reserved.
+ */
+public class GlobalRegionScheduler {
+  private final List<long[]> timers = new ArrayList<>();
+  private int tasks;
+
+  public int getTasks() {
+    return tasks;
+  }
+
+  /** Returns the delay and period of every timer, in order. */
+  public List<long[]> getTimers() {
+    return timers;
+  }
+
+  /** Runs the task right away. */
+  public Object run(Plugin plugin, Consumer<Object> task) {
+    tasks++;
+    task.accept(null);
+    return null;
+  }
+
+  /** Records the timer without running it. */
+  public Object runAtFixedRate(Plugin plugin, Consumer<Object> task, long delay, long period) {
+    timers.add(new long[] {delay, period});
+    return null;
+  }
+}